@@ -0,0 +1,73 @@
+package com.example.taskflow;
+
+import com.example.taskflow.model.Role;
+import com.example.taskflow.model.dto.AssigneeDto;
+import com.example.taskflow.model.dto.TaskResponseDto;
+import com.example.taskflow.model.entity.Board;
+import com.example.taskflow.model.entity.Task;
+import com.example.taskflow.model.entity.TaskPriority;
+import com.example.taskflow.model.entity.TaskStatus;
+import com.example.taskflow.model.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * Deterministic sample data shared by the benchmarks, shaped like a typical board: a mix of
+ * statuses and priorities, some tasks without description, deadline or assignee.
+ */
+public final class BenchmarkData {
+    private BenchmarkData() {
+    }
+
+    public static List<TaskResponseDto> tasks(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> new TaskResponseDto(
+                        id,
+                        "Task " + id,
+                        id % 3 == 0 ? null : "Description of task " + id,
+                        TaskStatus.values()[(int) (id % TaskStatus.values().length)],
+                        TaskPriority.values()[(int) (id % TaskPriority.values().length)],
+                        1L,
+                        id % 2 == 0 ? null : LocalDateTime.of(2026, 3, 1, 10, 0).plusMinutes(id),
+                        false,
+                        id % 4 == 0 ? null : new AssigneeDto(id % 10, "user" + id % 10, "user" + id % 10 + "@example.com"),
+                        id % 5
+                ))
+                .toList();
+    }
+
+    public static List<Task> taskEntities(int count) {
+        User owner = user(1L);
+        Board board = new Board();
+        board.setId(1L);
+        board.setTitle("Benchmark board");
+        board.setOwner(owner);
+
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> {
+                    Task task = new Task();
+                    task.setId(id);
+                    task.setTitle("Task " + id);
+                    task.setDescription(id % 3 == 0 ? null : "Description of task " + id);
+                    task.setStatus(TaskStatus.values()[(int) (id % TaskStatus.values().length)]);
+                    task.setPriority(TaskPriority.values()[(int) (id % TaskPriority.values().length)]);
+                    task.setDeadline(id % 2 == 0 ? null : LocalDateTime.of(2026, 3, 1, 10, 0).plusMinutes(id));
+                    task.setBoard(board);
+                    task.setAssignee(id % 4 == 0 ? null : user(id % 10));
+                    return task;
+                })
+                .toList();
+    }
+
+    public static User user(long id) {
+        return User.builder()
+                .id(id)
+                .username("user" + id)
+                .email("user" + id + "@example.com")
+                .password("hash")
+                .role(Role.USER)
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.taskflow.cache;
+
+import com.example.taskflow.BenchmarkData;
+import com.example.taskflow.config.RedisConfig;
+import com.example.taskflow.model.dto.TaskResponseDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the JSON and binary cache serializers on cached task listings. The encoded size is
+ * recorded as an auxiliary counter so it shows up next to the timings in the results file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheSerializerBenchmark {
+    @Param({"json", "binary"})
+    private String format;
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private RedisSerializer<Object> serializer;
+    private List<TaskResponseDto> tasks;
+    private byte[] encoded;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+        public long bytes;
+    }
+
+    @Setup
+    public void setUp() {
+        serializer = switch (format) {
+            case "json" -> RedisConfig.createSerializer();
+            case "binary" -> new BinaryCacheSerializer(DtoCodecs.ALL, RedisConfig.createSerializer(), 1024);
+            default -> throw new IllegalArgumentException("Unknown format " + format);
+        };
+        tasks = BenchmarkData.tasks(size);
+        encoded = serializer.serialize(tasks);
+    }
+
+    @Benchmark
+    public byte[] serialize(EncodedSize size) {
+        byte[] bytes = serializer.serialize(tasks);
+        size.bytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(encoded);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.taskflow.config;
+
+import com.example.taskflow.BenchmarkData;
+import com.example.taskflow.model.dto.TaskResponseDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON encoding of task listings with the application ObjectMapper, as done for every REST
+ * response and WebSocket frame.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskJsonBenchmark {
+    private static final TypeReference<List<TaskResponseDto>> TASK_LIST = new TypeReference<>() {
+    };
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<TaskResponseDto> tasks;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new AppConfig().objectMapper();
+        tasks = BenchmarkData.tasks(size);
+        json = objectMapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public List<TaskResponseDto> deserialize() throws IOException {
+        return objectMapper.readValue(json, TASK_LIST);
+    }
+}
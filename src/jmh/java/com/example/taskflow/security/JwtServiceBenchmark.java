@@ -0,0 +1,61 @@
+package com.example.taskflow.security;
+
+import com.example.taskflow.BenchmarkData;
+import com.example.taskflow.model.entity.User;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of authenticating a request: a full signature check through {@link JwtService} versus a
+ * warm {@link PrincipalCache} lookup, which only hashes the token.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+    private static final String SECRET = "fabd4036fe9c776fcc09c8d0b1cfbd508ef660f6674c32236de73443f9387981";
+
+    private JwtService jwtService;
+    private PrincipalCache principalCache;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET, Duration.ofHours(1).toMillis());
+        user = BenchmarkData.user(1L);
+        principalCache = new PrincipalCache(jwtService, email -> user, new SimpleMeterRegistry(),
+                10_000, Duration.ofMinutes(5));
+        token = jwtService.generateToken(user);
+        principalCache.resolve(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public Optional<Claims> parseAndValidate() {
+        return jwtService.parseValidClaims(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(token, user);
+    }
+
+    @Benchmark
+    public UserDetails resolveCachedPrincipal() {
+        return principalCache.resolve(token);
+    }
+}
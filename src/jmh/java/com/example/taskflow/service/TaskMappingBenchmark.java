@@ -0,0 +1,36 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.BenchmarkData;
+import com.example.taskflow.model.dto.TaskResponseDto;
+import com.example.taskflow.model.entity.Task;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskMappingBenchmark {
+    @Param({"1", "100", "1000"})
+    private int size;
+
+    private List<Task> tasks;
+
+    @Setup
+    public void setUp() {
+        tasks = BenchmarkData.taskEntities(size);
+    }
+
+    @Benchmark
+    public void mapToResponse(Blackhole blackhole) {
+        for (Task task : tasks) {
+            TaskResponseDto dto = TaskService.mapToResponse(task);
+            blackhole.consume(dto);
+        }
+    }
+}
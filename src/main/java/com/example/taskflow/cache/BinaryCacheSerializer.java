@@ -0,0 +1,175 @@
+package com.example.taskflow.cache;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compact binary serializer for cached values.
+ * <p>
+ * Layout: {@code [format version][flags][body]}, where the body is optionally deflated and holds
+ * a tagged value tree. Types without a registered {@link CacheValueCodec} are embedded as JSON
+ * produced by the fallback serializer. Entries written by the JSON serializer are still readable,
+ * and entries with an unknown format version are reported as cache misses.
+ */
+public class BinaryCacheSerializer implements RedisSerializer<Object> {
+    public static final byte FORMAT_VERSION = 2;
+
+    private static final byte FLAG_COMPRESSED = 1;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_LIST = 100;
+    private static final byte TAG_FALLBACK = 101;
+
+    private final Map<Class<?>, CacheValueCodec<?>> codecsByType = new HashMap<>();
+    private final Map<Byte, CacheValueCodec<?>> codecsByTag = new HashMap<>();
+    private final RedisSerializer<Object> fallback;
+    private final int compressionThreshold;
+
+    public BinaryCacheSerializer(List<CacheValueCodec<?>> codecs,
+                                 RedisSerializer<Object> fallback,
+                                 int compressionThreshold) {
+        for (CacheValueCodec<?> codec : codecs) {
+            if (codec.tag() == TAG_NULL || codec.tag() == TAG_LIST || codec.tag() == TAG_FALLBACK
+                    || codecsByTag.putIfAbsent(codec.tag(), codec) != null) {
+                throw new IllegalArgumentException("Codec tag " + codec.tag() + " is reserved or already in use");
+            }
+            codecsByType.put(codec.type(), codec);
+        }
+        this.fallback = fallback;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        try {
+            ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+            writeValue(value, new DataOutputStream(body));
+
+            boolean compress = body.size() >= compressionThreshold;
+
+            ByteArrayOutputStream result = new ByteArrayOutputStream(body.size() + 2);
+            result.write(FORMAT_VERSION);
+            result.write(compress ? FLAG_COMPRESSED : 0);
+
+            if (compress) {
+                Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+                try (DeflaterOutputStream deflaterOut = new DeflaterOutputStream(result, deflater)) {
+                    body.writeTo(deflaterOut);
+                } finally {
+                    deflater.end();
+                }
+            } else {
+                body.writeTo(result);
+            }
+            return result.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("Could not write binary cache value: " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        byte version = bytes[0];
+        if (version == '[' || version == '{') {
+            return fallback.deserialize(bytes);
+        }
+        if (version != FORMAT_VERSION || bytes.length < 2) {
+            return null;
+        }
+
+        try {
+            InputStream body = new ByteArrayInputStream(bytes, 2, bytes.length - 2);
+            if ((bytes[1] & FLAG_COMPRESSED) != 0) {
+                body = new BufferedInputStream(new InflaterInputStream(body), 8192);
+            }
+            try (DataInputStream in = new DataInputStream(body)) {
+                return readValue(in);
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Could not read binary cache value", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeValue(Object value, DataOutput out) throws IOException {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+            return;
+        }
+
+        if (value instanceof List<?> list) {
+            out.writeByte(TAG_LIST);
+            out.writeInt(list.size());
+            for (Object element : list) {
+                writeValue(element, out);
+            }
+            return;
+        }
+
+        CacheValueCodec<Object> codec = (CacheValueCodec<Object>) codecsByType.get(value.getClass());
+        if (codec != null) {
+            out.writeByte(codec.tag());
+            codec.write(value, out);
+            return;
+        }
+
+        byte[] json = fallback.serialize(value);
+        out.writeByte(TAG_FALLBACK);
+        out.writeInt(json.length);
+        out.write(json);
+    }
+
+    private Object readValue(DataInput in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_LIST: {
+                int size = in.readInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in));
+                }
+                return Collections.unmodifiableList(list);
+            }
+            case TAG_FALLBACK: {
+                byte[] json = new byte[in.readInt()];
+                in.readFully(json);
+                return fallback.deserialize(json);
+            }
+            default: {
+                CacheValueCodec<?> codec = codecsByTag.get(tag);
+                if (codec == null) {
+                    throw new IOException("Unknown cache value tag: " + tag);
+                }
+                return codec.read(in);
+            }
+        }
+    }
+}
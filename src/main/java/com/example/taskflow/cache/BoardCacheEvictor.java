@@ -0,0 +1,53 @@
+package com.example.taskflow.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts every cached task list of a single board.
+ * Keys of the "task-lists" cache are namespaced as {@code <boardId>:<priority>:<assigneeId>},
+ * so all filter variants of one board share the {@code <boardId>:} prefix.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BoardCacheEvictor {
+    public static final String TASKS_CACHE = "task-lists";
+
+    private final CacheManager cacheManager;
+
+    public static String boardPrefix(Long boardId) {
+        return boardId + ":";
+    }
+
+    public void evictBoard(Long boardId) {
+        AfterCommit.run(() -> doEvict(boardId));
+    }
+
+    // Task lists show assignee names on any board; renames are rare enough to drop every list
+    public void evictAllBoards() {
+        AfterCommit.run(() -> {
+            Cache cache = cacheManager.getCache(TASKS_CACHE);
+            if (cache != null) {
+                cache.clear();
+                log.debug("Evicted cached tasks for all boards");
+            }
+        });
+    }
+
+    private void doEvict(Long boardId) {
+        Cache cache = cacheManager.getCache(TASKS_CACHE);
+        if (cache == null) return;
+
+        if (cache instanceof TwoTierCache twoTierCache) {
+            twoTierCache.evictByPrefix(boardPrefix(boardId));
+        } else {
+            cache.clear();
+        }
+
+        log.debug("Evicted cached tasks for board {}", boardId);
+    }
+}
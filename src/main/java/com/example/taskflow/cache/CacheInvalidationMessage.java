@@ -0,0 +1,20 @@
+package com.example.taskflow.cache;
+
+public record CacheInvalidationMessage(
+        String origin,
+        String cacheName,
+        String key,
+        String keyPrefix
+) {
+    public static CacheInvalidationMessage key(String origin, String cacheName, String key) {
+        return new CacheInvalidationMessage(origin, cacheName, key, null);
+    }
+
+    public static CacheInvalidationMessage prefix(String origin, String cacheName, String keyPrefix) {
+        return new CacheInvalidationMessage(origin, cacheName, null, keyPrefix);
+    }
+
+    public static CacheInvalidationMessage all(String origin, String cacheName) {
+        return new CacheInvalidationMessage(origin, cacheName, null, null);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.taskflow.cache;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Field-by-field binary encoding of one cached value type.
+ * The tag identifies the type inside a payload and must never be reused for a different type.
+ */
+public interface CacheValueCodec<T> {
+    byte tag();
+
+    Class<T> type();
+
+    void write(T value, DataOutput out) throws IOException;
+
+    T read(DataInput in) throws IOException;
+}
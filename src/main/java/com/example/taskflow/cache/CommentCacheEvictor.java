@@ -0,0 +1,42 @@
+package com.example.taskflow.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts the cached first comment pages of a single task.
+ * Keys of the "comments" cache are namespaced as {@code <taskId>:<pageSize>},
+ * so every page size of one task shares the {@code <taskId>:} prefix.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CommentCacheEvictor {
+    public static final String COMMENTS_CACHE = "comments";
+
+    private final CacheManager cacheManager;
+
+    public static String taskPrefix(Long taskId) {
+        return taskId + ":";
+    }
+
+    public void evictTask(Long taskId) {
+        AfterCommit.run(() -> doEvict(taskId));
+    }
+
+    private void doEvict(Long taskId) {
+        Cache cache = cacheManager.getCache(COMMENTS_CACHE);
+        if (cache == null) return;
+
+        if (cache instanceof TwoTierCache twoTierCache) {
+            twoTierCache.evictByPrefix(taskPrefix(taskId));
+        } else {
+            cache.clear();
+        }
+
+        log.debug("Evicted cached comments for task {}", taskId);
+    }
+}
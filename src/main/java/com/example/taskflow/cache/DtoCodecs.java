@@ -0,0 +1,304 @@
+package com.example.taskflow.cache;
+
+import com.example.taskflow.model.dto.AssigneeDto;
+import com.example.taskflow.model.dto.BoardListDto;
+import com.example.taskflow.model.dto.BoardResponseDto;
+import com.example.taskflow.model.dto.CommentPageDto;
+import com.example.taskflow.model.dto.CommentResponseDto;
+import com.example.taskflow.model.dto.TaskListDto;
+import com.example.taskflow.model.dto.TaskResponseDto;
+import com.example.taskflow.model.entity.TaskPriority;
+import com.example.taskflow.model.entity.TaskStatus;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Codecs for the record DTOs stored in the "task-lists", "board-lists" and "comments" caches.
+ * Any change to the field layout below requires bumping {@link BinaryCacheSerializer#FORMAT_VERSION}.
+ */
+public final class DtoCodecs {
+    public static final CacheValueCodec<AssigneeDto> ASSIGNEE = new CacheValueCodec<>() {
+        @Override
+        public byte tag() {
+            return 1;
+        }
+
+        @Override
+        public Class<AssigneeDto> type() {
+            return AssigneeDto.class;
+        }
+
+        @Override
+        public void write(AssigneeDto value, DataOutput out) throws IOException {
+            writeLong(out, value.id());
+            writeString(out, value.username());
+            writeString(out, value.email());
+        }
+
+        @Override
+        public AssigneeDto read(DataInput in) throws IOException {
+            return new AssigneeDto(readLong(in), readString(in), readString(in));
+        }
+    };
+
+    public static final CacheValueCodec<TaskResponseDto> TASK = new CacheValueCodec<>() {
+        @Override
+        public byte tag() {
+            return 2;
+        }
+
+        @Override
+        public Class<TaskResponseDto> type() {
+            return TaskResponseDto.class;
+        }
+
+        @Override
+        public void write(TaskResponseDto value, DataOutput out) throws IOException {
+            writeLong(out, value.id());
+            writeString(out, value.title());
+            writeString(out, value.description());
+            writeString(out, value.status() != null ? value.status().name() : null);
+            writeString(out, value.priority() != null ? value.priority().name() : null);
+            writeLong(out, value.boardId());
+            writeDateTime(out, value.deadline());
+            out.writeBoolean(value.isArchived());
+            out.writeBoolean(value.assignee() != null);
+            if (value.assignee() != null) {
+                ASSIGNEE.write(value.assignee(), out);
+            }
+            out.writeLong(value.version());
+        }
+
+        @Override
+        public TaskResponseDto read(DataInput in) throws IOException {
+            Long id = readLong(in);
+            String title = readString(in);
+            String description = readString(in);
+            String status = readString(in);
+            String priority = readString(in);
+            Long boardId = readLong(in);
+            LocalDateTime deadline = readDateTime(in);
+            boolean isArchived = in.readBoolean();
+            AssigneeDto assignee = in.readBoolean() ? ASSIGNEE.read(in) : null;
+            long version = in.readLong();
+
+            return new TaskResponseDto(
+                    id,
+                    title,
+                    description,
+                    status != null ? TaskStatus.valueOf(status) : null,
+                    priority != null ? TaskPriority.valueOf(priority) : null,
+                    boardId,
+                    deadline,
+                    isArchived,
+                    assignee,
+                    version
+            );
+        }
+    };
+
+    public static final CacheValueCodec<BoardResponseDto> BOARD = new CacheValueCodec<>() {
+        @Override
+        public byte tag() {
+            return 3;
+        }
+
+        @Override
+        public Class<BoardResponseDto> type() {
+            return BoardResponseDto.class;
+        }
+
+        @Override
+        public void write(BoardResponseDto value, DataOutput out) throws IOException {
+            writeLong(out, value.id());
+            writeString(out, value.title());
+            writeLong(out, value.ownerId());
+        }
+
+        @Override
+        public BoardResponseDto read(DataInput in) throws IOException {
+            return new BoardResponseDto(readLong(in), readString(in), readLong(in));
+        }
+    };
+
+    public static final CacheValueCodec<CommentResponseDto> COMMENT = new CacheValueCodec<>() {
+        @Override
+        public byte tag() {
+            return 4;
+        }
+
+        @Override
+        public Class<CommentResponseDto> type() {
+            return CommentResponseDto.class;
+        }
+
+        @Override
+        public void write(CommentResponseDto value, DataOutput out) throws IOException {
+            writeLong(out, value.id());
+            writeLong(out, value.taskId());
+            writeString(out, value.text());
+            writeLong(out, value.authorId());
+            writeString(out, value.authorUsername());
+            writeDateTime(out, value.createdAt());
+        }
+
+        @Override
+        public CommentResponseDto read(DataInput in) throws IOException {
+            return new CommentResponseDto(readLong(in), readLong(in), readString(in), readLong(in), readString(in),
+                    readDateTime(in));
+        }
+    };
+
+    public static final CacheValueCodec<CommentPageDto> COMMENT_PAGE = new CacheValueCodec<>() {
+        @Override
+        public byte tag() {
+            return 5;
+        }
+
+        @Override
+        public Class<CommentPageDto> type() {
+            return CommentPageDto.class;
+        }
+
+        @Override
+        public void write(CommentPageDto value, DataOutput out) throws IOException {
+            out.writeInt(value.items().size());
+            for (CommentResponseDto comment : value.items()) {
+                COMMENT.write(comment, out);
+            }
+            writeString(out, value.nextCursor());
+            out.writeInt(value.commentCount());
+        }
+
+        @Override
+        public CommentPageDto read(DataInput in) throws IOException {
+            int size = in.readInt();
+            List<CommentResponseDto> items = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                items.add(COMMENT.read(in));
+            }
+            return new CommentPageDto(List.copyOf(items), readString(in), in.readInt());
+        }
+    };
+
+    public static final CacheValueCodec<TaskListDto> TASK_LIST = new CacheValueCodec<>() {
+        @Override
+        public byte tag() {
+            return 6;
+        }
+
+        @Override
+        public Class<TaskListDto> type() {
+            return TaskListDto.class;
+        }
+
+        @Override
+        public void write(TaskListDto value, DataOutput out) throws IOException {
+            out.writeLong(value.version());
+            out.writeInt(value.tasks().size());
+            for (TaskResponseDto task : value.tasks()) {
+                TASK.write(task, out);
+            }
+        }
+
+        @Override
+        public TaskListDto read(DataInput in) throws IOException {
+            long version = in.readLong();
+            int size = in.readInt();
+            List<TaskResponseDto> tasks = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                tasks.add(TASK.read(in));
+            }
+            return new TaskListDto(version, List.copyOf(tasks));
+        }
+    };
+
+    public static final CacheValueCodec<BoardListDto> BOARD_LIST = new CacheValueCodec<>() {
+        @Override
+        public byte tag() {
+            return 7;
+        }
+
+        @Override
+        public Class<BoardListDto> type() {
+            return BoardListDto.class;
+        }
+
+        @Override
+        public void write(BoardListDto value, DataOutput out) throws IOException {
+            out.writeLong(value.version());
+            out.writeInt(value.boards().size());
+            for (BoardResponseDto board : value.boards()) {
+                BOARD.write(board, out);
+            }
+        }
+
+        @Override
+        public BoardListDto read(DataInput in) throws IOException {
+            long version = in.readLong();
+            int size = in.readInt();
+            List<BoardResponseDto> boards = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                boards.add(BOARD.read(in));
+            }
+            return new BoardListDto(version, List.copyOf(boards));
+        }
+    };
+
+    public static final List<CacheValueCodec<?>> ALL =
+            List.of(ASSIGNEE, TASK, BOARD, COMMENT, COMMENT_PAGE, TASK_LIST, BOARD_LIST);
+
+    private DtoCodecs() {
+    }
+
+    static void writeLong(DataOutput out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    static Long readLong(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) return null;
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void writeDateTime(DataOutput out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    static LocalDateTime readDateTime(DataInput in) throws IOException {
+        if (!in.readBoolean()) return null;
+        long epochSecond = in.readLong();
+        int nano = in.readInt();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.taskflow.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Serves hits from an in-heap Caffeine cache (L1) and falls back to the shared Redis cache (L2).
+ * L1 keeps the deserialized objects, so cached values must be immutable (records, unmodifiable lists).
+ * Evictions are applied to both tiers and broadcast so that other nodes drop their L1 copies.
+ * A value read from L2 only enters L1 if no invalidation, local or remote, arrived while it was
+ * being read; otherwise L1 could keep the old value for its whole TTL. Every invalidation, local
+ * or remote, is reported to the invalidation listener before it is applied.
+ */
+public class TwoTierCache implements Cache {
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> nearCache;
+    private final Cache remoteCache;
+    private final String nodeId;
+    private final Consumer<CacheInvalidationMessage> invalidationPublisher;
+    private final Consumer<CacheInvalidationMessage> invalidationListener;
+    // Moved on before every L1 invalidation; one counter for the whole cache, since prefix and clear cover many keys
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Counter remoteEvictions;
+
+    public TwoTierCache(String name,
+                        com.github.benmanes.caffeine.cache.Cache<String, Object> nearCache,
+                        Cache remoteCache,
+                        String nodeId,
+                        Consumer<CacheInvalidationMessage> invalidationPublisher,
+                        Consumer<CacheInvalidationMessage> invalidationListener,
+                        MeterRegistry meterRegistry) {
+        this.name = name;
+        this.nearCache = nearCache;
+        this.remoteCache = remoteCache;
+        this.nodeId = nodeId;
+        this.invalidationPublisher = invalidationPublisher;
+        this.invalidationListener = invalidationListener;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, nearCache, name, Tags.of("tier", "l1"));
+        this.remoteHits = remoteCounter(meterRegistry, "cache.gets", "hit");
+        this.remoteMisses = remoteCounter(meterRegistry, "cache.gets", "miss");
+        this.remoteEvictions = Counter.builder("cache.evictions")
+                .tags("cache", name, "tier", "l2")
+                .register(meterRegistry);
+    }
+
+    private Counter remoteCounter(MeterRegistry meterRegistry, String meterName, String result) {
+        return Counter.builder(meterName)
+                .tags("cache", name, "tier", "l2", "result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remoteCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String nearKey = nearKey(key);
+        Object nearValue = nearCache.getIfPresent(nearKey);
+        if (nearValue != null) {
+            return new SimpleValueWrapper(nearValue);
+        }
+
+        long generation = invalidations.get();
+        ValueWrapper wrapper = remoteCache.get(key);
+        if (wrapper == null) {
+            remoteMisses.increment();
+            return null;
+        }
+
+        remoteHits.increment();
+        if (wrapper.get() != null) {
+            putNear(nearKey, wrapper.get(), generation);
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        long generation = invalidations.get();
+        T value = remoteCache.get(key, valueLoader);
+        if (value != null) {
+            putNear(nearKey(key), value, generation);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remoteCache.put(key, value);
+        if (value != null) {
+            nearCache.put(nearKey(key), value);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        CacheInvalidationMessage message = CacheInvalidationMessage.key(nodeId, name, nearKey(key));
+        invalidationListener.accept(message);
+        remoteCache.evict(key);
+        remoteEvictions.increment();
+        invalidations.incrementAndGet();
+        nearCache.invalidate(nearKey(key));
+        invalidationPublisher.accept(message);
+    }
+
+    @Override
+    public void clear() {
+        CacheInvalidationMessage message = CacheInvalidationMessage.all(nodeId, name);
+        invalidationListener.accept(message);
+        remoteCache.clear();
+        remoteEvictions.increment();
+        invalidations.incrementAndGet();
+        nearCache.invalidateAll();
+        invalidationPublisher.accept(message);
+    }
+
+    public void evictByPrefix(String keyPrefix) {
+        CacheInvalidationMessage message = CacheInvalidationMessage.prefix(nodeId, name, keyPrefix);
+        invalidationListener.accept(message);
+        if (remoteCache instanceof RedisCache redisCache) {
+            String pattern = redisCache.getCacheConfiguration().getKeyPrefixFor(name) + keyPrefix + "*";
+            redisCache.getNativeCache().clean(name, pattern.getBytes(StandardCharsets.UTF_8));
+        } else {
+            remoteCache.clear();
+        }
+        remoteEvictions.increment();
+        evictNearByPrefix(keyPrefix);
+        invalidationPublisher.accept(message);
+    }
+
+    void applyRemoteInvalidation(CacheInvalidationMessage message) {
+        invalidationListener.accept(message);
+        invalidations.incrementAndGet();
+        if (message.key() != null) {
+            nearCache.invalidate(message.key());
+        } else if (message.keyPrefix() != null) {
+            evictNearByPrefix(message.keyPrefix());
+        } else {
+            nearCache.invalidateAll();
+        }
+    }
+
+    private void putNear(String nearKey, Object value, long generation) {
+        if (invalidations.get() != generation) return;
+
+        nearCache.put(nearKey, value);
+        // An invalidation that slipped in between the check and the put takes the entry out again
+        if (invalidations.get() != generation) {
+            nearCache.invalidate(nearKey);
+        }
+    }
+
+    private void evictNearByPrefix(String keyPrefix) {
+        invalidations.incrementAndGet();
+        nearCache.asMap().keySet().removeIf(key -> key.startsWith(keyPrefix));
+    }
+
+    // Redis stores keys as strings, so the near cache uses the same form to stay addressable by prefix
+    private static String nearKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.taskflow.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+/**
+ * Decorates the Redis cache manager with a per-node near cache and listens on a Redis channel
+ * for evictions performed by other nodes. The invalidation listener hears about evictions from
+ * this node and from the others alike.
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, MessageListener {
+    private final CacheManager remoteCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final String invalidationChannel;
+    private final long nearMaximumSize;
+    private final Duration nearTtl;
+    private final Consumer<CacheInvalidationMessage> invalidationListener;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remoteCacheManager,
+                               StringRedisTemplate redisTemplate,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               String invalidationChannel,
+                               long nearMaximumSize,
+                               Duration nearTtl,
+                               Consumer<CacheInvalidationMessage> invalidationListener) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.invalidationChannel = invalidationChannel;
+        this.nearMaximumSize = nearMaximumSize;
+        this.nearTtl = nearTtl;
+        this.invalidationListener = invalidationListener;
+    }
+
+    public String getInvalidationChannel() {
+        return invalidationChannel;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return caches.keySet();
+    }
+
+    private TwoTierCache createCache(String name) {
+        Cache remoteCache = remoteCacheManager.getCache(name);
+        if (remoteCache == null) {
+            throw new IllegalStateException("No remote cache configured for name: " + name);
+        }
+
+        com.github.benmanes.caffeine.cache.Cache<String, Object> nearCache = Caffeine.newBuilder()
+                .maximumSize(nearMaximumSize)
+                .expireAfterWrite(nearTtl)
+                .recordStats()
+                .build();
+
+        return new TwoTierCache(name, nearCache, remoteCache, nodeId, this::publish, invalidationListener, meterRegistry);
+    }
+
+    private void publish(CacheInvalidationMessage message) {
+        try {
+            redisTemplate.convertAndSend(invalidationChannel, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize cache invalidation for cache {}", message.cacheName(), e);
+        } catch (RuntimeException e) {
+            // Redis itself is unavailable; remote near caches will expire by TTL
+            log.warn("Failed to publish cache invalidation for cache {}: {}", message.cacheName(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidationMessage invalidation;
+        try {
+            invalidation = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), CacheInvalidationMessage.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed cache invalidation message", e);
+            return;
+        }
+
+        if (nodeId.equals(invalidation.origin())) return;
+
+        TwoTierCache cache = caches.get(invalidation.cacheName());
+        if (cache != null) {
+            cache.applyRemoteInvalidation(invalidation);
+        }
+    }
+}
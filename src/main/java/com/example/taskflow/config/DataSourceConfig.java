@@ -0,0 +1,97 @@
+package com.example.taskflow.config;
+
+import com.example.taskflow.datasource.RecentWriters;
+import com.example.taskflow.datasource.ReplicaDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits database traffic between the primary and read replicas once replica URLs are
+ * configured; without them Boot's single data source stays in place. The application data
+ * source is a lazy proxy that only fetches a physical connection at the first statement, by
+ * which point the transaction has marked it read-only or not: read-only transactions go to
+ * {@link ReplicaDataSource}, everything else to the primary.
+ */
+@Configuration
+@ConditionalOnExpression("!'${taskflow.datasource.replicas.urls:}'.isBlank()")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public RecentWriters recentWriters(
+            @Value("${taskflow.datasource.replicas.read-your-writes-window:2s}") Duration window) {
+        return new RecentWriters(window);
+    }
+
+    @Bean
+    public ReplicaDataSource replicaDataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            DataSourceProperties properties,
+            RecentWriters recentWriters,
+            MeterRegistry meterRegistry,
+            @Value("${taskflow.datasource.replicas.urls}") List<String> urls,
+            @Value("${taskflow.datasource.replicas.username:}") String username,
+            @Value("${taskflow.datasource.replicas.password:}") String password,
+            @Value("${taskflow.datasource.replicas.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${taskflow.datasource.replicas.max-lag:10s}") Duration maxLag) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("replica-" + i);
+            config.setJdbcUrl(urls.get(i).trim());
+            config.setUsername(username.isBlank() ? properties.determineUsername() : username);
+            config.setPassword(password.isBlank() ? properties.determinePassword() : password);
+            config.setMaximumPoolSize(maximumPoolSize);
+            config.setReadOnly(true);
+            // A replica that is down at startup is skipped by the health check instead of failing the boot
+            config.setInitializationFailTimeout(-1);
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new HikariDataSource(config));
+        }
+        return new ReplicaDataSource(replicas, primary, recentWriters, maxLag, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 ReplicaDataSource replicaDataSource,
+                                 RecentWriters recentWriters) {
+        DataSource recordingPrimary = new DelegatingDataSource(primary) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                recentWriters.recordWrite();
+                return super.getConnection();
+            }
+        };
+
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(recordingPrimary);
+        proxy.setReadOnlyDataSource(replicaDataSource);
+        return proxy;
+    }
+}
@@ -1,18 +1,31 @@
 package com.example.taskflow.config;
 
+import com.example.taskflow.cache.BinaryCacheSerializer;
+import com.example.taskflow.cache.DtoCodecs;
+import com.example.taskflow.cache.TwoTierCacheManager;
+import com.example.taskflow.datasource.RecentWrites;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.annotation.Value;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -37,8 +50,13 @@ public class RedisConfig {
     }
 
     @Bean
-    public RedisCacheConfiguration cacheConfiguration() {
-        GenericJackson2JsonRedisSerializer serializer = createSerializer();
+    public RedisCacheConfiguration cacheConfiguration(@Value("${taskflow.cache.serializer}") String serializerType,
+                                                      @Value("${taskflow.cache.compression-threshold}") int compressionThreshold) {
+        RedisSerializer<Object> serializer = switch (serializerType) {
+            case "binary" -> new BinaryCacheSerializer(DtoCodecs.ALL, createSerializer(), compressionThreshold);
+            case "json" -> createSerializer();
+            default -> throw new IllegalArgumentException("Unknown cache serializer: " + serializerType);
+        };
 
         return RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(10))
@@ -47,7 +65,45 @@ public class RedisConfig {
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer));
     }
 
-    private GenericJackson2JsonRedisSerializer createSerializer() {
+    // Only replicas can serve a read that misses a recent write, so without them nothing is tracked
+    @Bean
+    public RecentWrites recentWrites(@Value("${taskflow.datasource.replicas.urls:}") String replicaUrls,
+                                     @Value("${taskflow.datasource.replicas.max-lag:10s}") Duration maxLag) {
+        return new RecentWrites(replicaUrls.isBlank() ? Duration.ZERO : maxLag);
+    }
+
+    @Bean
+    public TwoTierCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                            RedisCacheConfiguration cacheConfiguration,
+                                            StringRedisTemplate stringRedisTemplate,
+                                            ObjectMapper objectMapper,
+                                            MeterRegistry meterRegistry,
+                                            RecentWrites recentWrites,
+                                            @Value("${taskflow.cache.invalidation-channel}") String invalidationChannel,
+                                            @Value("${taskflow.cache.near.maximum-size}") long nearMaximumSize,
+                                            @Value("${taskflow.cache.near.ttl}") Duration nearTtl) {
+        // Per-board eviction cleans keys by pattern; SCAN keeps it from blocking Redis the way KEYS does
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(
+                        RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory, BatchStrategies.scan(1000)))
+                .cacheDefaults(cacheConfiguration)
+                .build();
+
+        return new TwoTierCacheManager(redisCacheManager, stringRedisTemplate, objectMapper, meterRegistry,
+                invalidationChannel, nearMaximumSize, nearTtl,
+                message -> recentWrites.record(message.cacheName(),
+                        message.key() != null ? message.key() : message.keyPrefix()));
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       TwoTierCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(cacheManager.getInvalidationChannel()));
+        return container;
+    }
+
+    public static GenericJackson2JsonRedisSerializer createSerializer() {
         ObjectMapper mapper = new ObjectMapper();
         mapper.registerModule(new JavaTimeModule());
         mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
@@ -1,16 +1,22 @@
 package com.example.taskflow.controller;
 
+import com.example.taskflow.model.dto.BoardListDto;
 import com.example.taskflow.model.dto.BoardRequestDto;
 import com.example.taskflow.model.dto.BoardResponseDto;
+import com.example.taskflow.model.dto.BoardSummaryDto;
 import com.example.taskflow.model.entity.User;
 import com.example.taskflow.service.BoardService;
+import com.example.taskflow.service.BoardSummaryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -20,12 +26,33 @@ import java.util.List;
 @Tag(name = "Boards", description = "Управління дошками задач (створення, редагування, перегляд)")
 public class BoardController {
     private final BoardService boardService;
+    private final BoardSummaryService boardSummaryService;
 
     @Operation(summary = "Отримати всі дошки користувача",
-            description = "Повертає список дошок, де поточний користувач є власником")
+            description = "Повертає список дошок, де поточний користувач є власником. "
+                    + "Якщо передати ETag попередньої відповіді в If-None-Match і дошки не змінювались, повертається 304 без тіла.")
     @GetMapping
-    public List<BoardResponseDto> getAll(@AuthenticationPrincipal User currentUser) {
-        return boardService.getAllBoardsByOwner(currentUser.getId());
+    public ResponseEntity<List<BoardResponseDto>> getAll(@AuthenticationPrincipal User currentUser,
+                                                         WebRequest request) {
+        BoardListDto boardList = boardService.getAllBoardsByOwner(currentUser.getId());
+        String etag = "W/\"u" + currentUser.getId() + "-" + boardList.version() + "\"";
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(etag)
+                .body(boardList.boards());
+    }
+
+    @Operation(summary = "Зведення по дошці",
+            description = "Повертає кількість активних завдань за статусом, пріоритетом та виконавцем, "
+                    + "а також кількість прострочених завдань і тих, дедлайн яких настає найближчим часом.")
+    @GetMapping("/{id}/summary")
+    @PreAuthorize("@boardSecurity.isOwner(authentication, #id)")
+    public BoardSummaryDto getSummary(@PathVariable Long id) {
+        return boardSummaryService.getSummary(id);
     }
 
     @Operation(summary = "Створити нову дошку",
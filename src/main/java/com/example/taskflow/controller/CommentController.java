@@ -0,0 +1,55 @@
+package com.example.taskflow.controller;
+
+import com.example.taskflow.model.dto.CommentPageDto;
+import com.example.taskflow.model.dto.CommentRequestDto;
+import com.example.taskflow.model.dto.CommentResponseDto;
+import com.example.taskflow.model.entity.User;
+import com.example.taskflow.service.CommentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/tasks/{taskId}/comments")
+@RequiredArgsConstructor
+@Tag(name = "Comments", description = "Коментарі до завдань: перегляд сторінками, додавання та видалення")
+public class CommentController {
+    private final CommentService commentService;
+
+    @Operation(summary = "Отримати коментарі завдання",
+            description = "Повертає коментарі від найновіших до найстаріших разом із загальною кількістю. "
+                    + "Для старіших коментарів передайте nextCursor з попередньої відповіді. "
+                    + "Нові та видалені коментарі надходять через WebSocket на /topic/task/{taskId}/comments.")
+    @GetMapping
+    @PreAuthorize("@boardSecurity.isBoardOwnerOfTask(authentication, #taskId)")
+    public CommentPageDto getPage(@PathVariable Long taskId,
+                                  @RequestParam(required = false) String cursor,
+                                  @RequestParam(defaultValue = "20") int limit) {
+        return commentService.getComments(taskId, cursor, limit);
+    }
+
+    @Operation(summary = "Додати коментар", description = "Додає коментар до завдання від імені поточного користувача.")
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    @PreAuthorize("@boardSecurity.isBoardOwnerOfTask(authentication, #taskId)")
+    public CommentResponseDto create(@PathVariable Long taskId,
+                                     @RequestBody @Valid CommentRequestDto dto,
+                                     @AuthenticationPrincipal User currentUser) {
+        return commentService.addComment(taskId, dto, currentUser.getId());
+    }
+
+    @Operation(summary = "Видалити коментар", description = "Видаляє коментар завдання. Доступно лише власнику дошки.")
+    @DeleteMapping("/{commentId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PreAuthorize("@boardSecurity.isBoardOwnerOfTask(authentication, #taskId)")
+    public void delete(@PathVariable Long taskId,
+                       @PathVariable Long commentId,
+                       @AuthenticationPrincipal User currentUser) {
+        commentService.deleteComment(taskId, commentId, currentUser.getId());
+    }
+}
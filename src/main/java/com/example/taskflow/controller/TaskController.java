@@ -1,19 +1,34 @@
 package com.example.taskflow.controller;
 
+import com.example.taskflow.exception.BadRequestException;
+import com.example.taskflow.model.dto.BulkTaskRequestDto;
+import com.example.taskflow.model.dto.TaskChangesDto;
+import com.example.taskflow.model.dto.TaskListDto;
+import com.example.taskflow.model.dto.TaskPageDto;
 import com.example.taskflow.model.dto.TaskRequestDto;
 import com.example.taskflow.model.dto.TaskResponseDto;
+import com.example.taskflow.model.dto.TaskSearchPageDto;
+import com.example.taskflow.model.dto.TaskSort;
 import com.example.taskflow.model.entity.TaskPriority;
 import com.example.taskflow.model.entity.User;
 import com.example.taskflow.service.TaskService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -22,15 +37,88 @@ import java.util.List;
 @Tag(name = "Tasks", description = "Управління завданнями: створення, фільтрація, редагування та призначення виконавців")
 public class TaskController {
     private final TaskService taskService;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "Отримати список завдань",
-            description = "Повертає завдання з конкретної дошки. Можна фільтрувати за пріоритетом та виконавцем.")
+            description = "Повертає завдання з конкретної дошки. Можна фільтрувати за пріоритетом та виконавцем. "
+                    + "Відповідь містить ETag; якщо передати його в If-None-Match і завдання дошки не змінювались, "
+                    + "повертається 304 без тіла.")
     @GetMapping
-    public List<TaskResponseDto> getByBoard(@RequestParam Long boardId,
-                                            @AuthenticationPrincipal User currentUser,
-                                            @RequestParam(required = false) TaskPriority priority,
-                                            @RequestParam(required = false) Long assigneeId) {
-        return taskService.getTasksByBoard(boardId, currentUser.getId(), priority, assigneeId);
+    public ResponseEntity<List<TaskResponseDto>> getByBoard(@RequestParam Long boardId,
+                                                            @AuthenticationPrincipal User currentUser,
+                                                            @RequestParam(required = false) TaskPriority priority,
+                                                            @RequestParam(required = false) Long assigneeId,
+                                                            WebRequest request) {
+        TaskListDto taskList = taskService.getTasksByBoard(boardId, currentUser.getId(), priority, assigneeId);
+        String etag = "W/\"b" + boardId + "-" + taskList.version() + "\"";
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(etag)
+                .body(taskList.tasks());
+    }
+
+    @Operation(summary = "Отримати сторінку завдань",
+            description = "Keyset-пагінація завдань дошки. Для наступної сторінки передайте nextCursor з попередньої відповіді.")
+    @GetMapping("/page")
+    @PreAuthorize("@boardSecurity.isOwner(authentication, #boardId)")
+    public TaskPageDto getPage(@RequestParam Long boardId,
+                               @RequestParam(required = false) TaskPriority priority,
+                               @RequestParam(required = false) Long assigneeId,
+                               @RequestParam(defaultValue = "ID") TaskSort sort,
+                               @RequestParam(required = false) String cursor,
+                               @RequestParam(defaultValue = "50") int limit) {
+        return taskService.getTaskPage(boardId, priority, assigneeId, sort, cursor, limit);
+    }
+
+    @Operation(summary = "Отримати зміни завдань",
+            description = "Повертає завдання дошки, змінені або архівовані після вказаного номера зміни, від найстаріших змін. "
+                    + "Номер береться з поля seq подій WebSocket або попередньої відповіді; якщо hasMore = true, повторіть запит з новим seq.")
+    @GetMapping("/changes")
+    @PreAuthorize("@boardSecurity.isOwner(authentication, #boardId)")
+    public TaskChangesDto getChanges(@RequestParam Long boardId,
+                                     @RequestParam long since,
+                                     @RequestParam(defaultValue = "500") int limit) {
+        return taskService.getChangesSince(boardId, since, limit);
+    }
+
+    @Operation(summary = "Повнотекстовий пошук завдань",
+            description = "Шукає у назвах, описах та коментарях завдань на дошках користувача. Результати впорядковані за релевантністю, "
+                    + "збіги позначені тегом <mark>. Для наступної сторінки передайте nextCursor з попередньої відповіді.")
+    @GetMapping("/search")
+    public TaskSearchPageDto search(@RequestParam String q,
+                                    @RequestParam(required = false) Long boardId,
+                                    @RequestParam(required = false) String cursor,
+                                    @RequestParam(defaultValue = "20") int limit,
+                                    @AuthenticationPrincipal User currentUser) {
+        return taskService.searchTasks(currentUser.getId(), q, boardId, cursor, limit);
+    }
+
+    @Operation(summary = "Потокове отримання завдань (NDJSON)",
+            description = "Передає завдання дошки по одному JSON-об'єкту на рядок у міру читання з бази даних.")
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("@boardSecurity.isOwner(authentication, #boardId)")
+    public ResponseEntity<StreamingResponseBody> stream(@RequestParam Long boardId,
+                                                        @RequestParam(required = false) TaskPriority priority,
+                                                        @RequestParam(required = false) Long assigneeId) {
+        StreamingResponseBody body = out -> {
+            taskService.streamTasksByBoard(boardId, priority, assigneeId, task -> {
+                try {
+                    out.write(objectMapper.writeValueAsBytes(task));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @Operation(summary = "Створити нове завдання",
@@ -43,24 +131,37 @@ public class TaskController {
         return taskService.createTask(dto, currentUser.getId());
     }
 
+    @Operation(summary = "Масові операції із завданнями",
+            description = "Створює, оновлює, переміщує між статусами або архівує до 500 завдань однієї дошки в одній транзакції.")
+    @PostMapping("/bulk")
+    @PreAuthorize("@boardSecurity.isOwner(authentication, #dto.boardId())")
+    public List<TaskResponseDto> bulk(@RequestBody @Valid BulkTaskRequestDto dto,
+                                      @AuthenticationPrincipal User currentUser) {
+        return taskService.applyBulk(dto, currentUser.getId());
+    }
+
     @Operation(summary = "Оновити завдання (повне)",
-            description = "Повністю оновлює дані завдання (назва, опис, статус, пріоритет).")
+            description = "Повністю оновлює дані завдання (назва, опис, статус, пріоритет). "
+                    + "Із заголовком If-Match: \"<version>\" зміни застосовуються лише до цієї версії завдання, інакше 412.")
     @PutMapping("/{id}")
     @PreAuthorize("@boardSecurity.isBoardOwnerOfTask(authentication, #id)")
-    public TaskResponseDto update(@PathVariable Long id,
-                                 @RequestBody @Valid TaskRequestDto dto,
-                                 @AuthenticationPrincipal User currentUser) {
-        return taskService.updateTask(id, dto, currentUser.getId());
+    public ResponseEntity<TaskResponseDto> update(@PathVariable Long id,
+                                                  @RequestBody @Valid TaskRequestDto dto,
+                                                  @RequestHeader(value = "If-Match", required = false) String ifMatch,
+                                                  @AuthenticationPrincipal User currentUser) {
+        return withETag(taskService.updateTask(id, dto, currentUser.getId(), parseIfMatch(ifMatch)));
     }
 
     @Operation(summary = "Оновити завдання (часткове)",
-            description = "Дозволяє змінити окремі поля завдання (наприклад, тільки статус або тільки дедлайн).")
+            description = "Дозволяє змінити окремі поля завдання (наприклад, тільки статус або тільки дедлайн). "
+                    + "Із заголовком If-Match: \"<version>\" зміни застосовуються лише до цієї версії завдання, інакше 412.")
     @PatchMapping("/{id}")
     @PreAuthorize("@boardSecurity.isBoardOwnerOfTask(authentication, #id)")
-    public TaskResponseDto patchUpdate(@PathVariable Long id,
-                                       @RequestBody TaskRequestDto dto,
-                                       @AuthenticationPrincipal User currentUser) {
-        return taskService.patchUpdateTask(id, dto, currentUser.getId());
+    public ResponseEntity<TaskResponseDto> patchUpdate(@PathVariable Long id,
+                                                       @RequestBody TaskRequestDto dto,
+                                                       @RequestHeader(value = "If-Match", required = false) String ifMatch,
+                                                       @AuthenticationPrincipal User currentUser) {
+        return withETag(taskService.patchUpdateTask(id, dto, currentUser.getId(), parseIfMatch(ifMatch)));
     }
 
     @Operation(summary = "Призначити виконавця",
@@ -81,4 +182,29 @@ public class TaskController {
                        @AuthenticationPrincipal User currentUser) {
         taskService.deleteTask(id, currentUser.getId());
     }
+
+    private static ResponseEntity<TaskResponseDto> withETag(TaskResponseDto task) {
+        return ResponseEntity.ok()
+                .eTag("\"" + task.version() + "\"")
+                .body(task);
+    }
+
+    // Task ETags are the quoted version; "*" matches any version
+    private static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        if (value.length() < 2 || !value.startsWith("\"") || !value.endsWith("\"")) {
+            throw new BadRequestException("If-Match must hold a single quoted task version");
+        }
+        try {
+            return Long.parseLong(value.substring(1, value.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("If-Match must hold a single quoted task version");
+        }
+    }
 }
@@ -0,0 +1,36 @@
+package com.example.taskflow.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Marks reads that must see the primary even inside a read-only transaction. Cache entries a
+ * write has just invalidated are reloaded this way (see {@link RecentWrites}): a replica within
+ * the lag limit can still be seconds behind, and a stale list cached from it would be served
+ * until the next eviction, long after the replica has caught up. The connection is chosen at
+ * the first statement, so the read has to run inside {@link #call} and must not share a
+ * transaction that has already queried.
+ */
+public final class PrimaryReads {
+    private static final ThreadLocal<Boolean> REQUESTED = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T call(Supplier<T> read) {
+        Boolean previous = REQUESTED.get();
+        REQUESTED.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            if (previous == null) {
+                REQUESTED.remove();
+            } else {
+                REQUESTED.set(previous);
+            }
+        }
+    }
+
+    static boolean requested() {
+        return REQUESTED.get() != null;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.taskflow.datasource;
+
+import com.example.taskflow.model.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+/**
+ * Remembers which users wrote to the primary within the read-your-writes window, so their
+ * reads can skip replicas that may not have replayed those writes yet. A zero window turns
+ * the tracking off.
+ */
+public class RecentWriters {
+    private final Cache<Long, Boolean> writers;
+
+    public RecentWriters(Duration window) {
+        this.writers = window.isZero() ? null : Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    public void recordWrite() {
+        Long userId = currentUserId();
+        if (writers != null && userId != null) {
+            writers.put(userId, Boolean.TRUE);
+        }
+    }
+
+    public boolean wroteRecently() {
+        Long userId = currentUserId();
+        return writers != null && userId != null && writers.getIfPresent(userId) != null;
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return user.getId();
+        }
+        return null;
+    }
+}
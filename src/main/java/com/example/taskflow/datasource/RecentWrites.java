@@ -0,0 +1,50 @@
+package com.example.taskflow.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Remembers which cache entries a write invalidated within the replica lag limit. A miss on
+ * such an entry loads from the primary, because a replica may not have replayed the write yet
+ * and the stale value would stay cached until the next write; every other miss reads from a
+ * replica. Entries are named by the key or key prefix the cache was invalidated with, and a
+ * cleared cache covers all of its keys. A zero window turns the tracking off.
+ */
+public class RecentWrites {
+    private final Cache<Entry, Boolean> writes;
+
+    public RecentWrites(Duration window) {
+        this.writes = window.isZero() ? null : Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    /**
+     * Records a write to the given entry of a cache, or to the whole cache when {@code key} is null.
+     */
+    public void record(String cacheName, String key) {
+        if (writes != null) {
+            writes.put(new Entry(cacheName, key), Boolean.TRUE);
+        }
+    }
+
+    public boolean wroteRecently(String cacheName, String key) {
+        return writes != null
+                && (writes.getIfPresent(new Entry(cacheName, key)) != null
+                || writes.getIfPresent(new Entry(cacheName, null)) != null);
+    }
+
+    /**
+     * Runs the loader of a cache entry, through {@link PrimaryReads#call} if the entry was written recently.
+     */
+    public <T> T load(String cacheName, String key, Supplier<T> loader) {
+        return wroteRecently(cacheName, key) ? PrimaryReads.call(loader) : loader.get();
+    }
+
+    private record Entry(String cacheName, String key) {
+    }
+}
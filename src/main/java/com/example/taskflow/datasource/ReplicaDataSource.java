@@ -0,0 +1,159 @@
+package com.example.taskflow.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Read-only side of the routing data source. Connections come from the healthy replicas in
+ * round-robin order; when none is healthy, the current user wrote moments ago, or the read
+ * runs inside {@link PrimaryReads#call}, they come from the primary instead. A replica is
+ * taken out of rotation when it refuses a connection or the periodic check finds it
+ * unreachable or lagging, and put back once a check passes.
+ */
+@Slf4j
+public class ReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+    // 0 when the server is not a standby or has replayed everything it received
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END
+            """;
+
+    private final List<Replica> replicas;
+    private final DataSource primary;
+    private final RecentWriters recentWriters;
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final Counter replicaReads;
+    private final Counter fallbackReads;
+    private final Counter recentWriterReads;
+    private final Counter requestedPrimaryReads;
+
+    public ReplicaDataSource(List<DataSource> replicas,
+                             DataSource primary,
+                             RecentWriters recentWriters,
+                             Duration maxLag,
+                             MeterRegistry meterRegistry) {
+        this.replicas = IntStream.range(0, replicas.size())
+                .mapToObj(index -> new Replica(index, replicas.get(index)))
+                .toList();
+        this.primary = primary;
+        this.recentWriters = recentWriters;
+        this.maxLag = maxLag;
+
+        this.replicaReads = readCounter(meterRegistry, "replica");
+        this.fallbackReads = readCounter(meterRegistry, "primary-fallback");
+        this.recentWriterReads = readCounter(meterRegistry, "primary-recent-write");
+        this.requestedPrimaryReads = readCounter(meterRegistry, "primary-requested");
+        Gauge.builder("taskflow.datasource.replicas.healthy", this, ReplicaDataSource::healthyCount)
+                .description("Replicas currently receiving read-only transactions")
+                .register(meterRegistry);
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("taskflow.datasource.reads")
+                .description("Connections handed out to read-only transactions")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (PrimaryReads.requested()) {
+            requestedPrimaryReads.increment();
+            return primary.getConnection();
+        }
+        if (recentWriters.wroteRecently()) {
+            recentWriterReads.increment();
+            return primary.getConnection();
+        }
+
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.healthy) continue;
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replicaReads.increment();
+                return connection;
+            } catch (SQLException e) {
+                markDown(replica, e.getMessage());
+            }
+        }
+
+        fallbackReads.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new UnsupportedOperationException("Replica connections use the configured credentials");
+    }
+
+    @Scheduled(fixedDelayString = "${taskflow.datasource.replicas.health-check-interval-ms:5000}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+                rs.next();
+                Duration lag = Duration.ofMillis((long) (rs.getDouble(1) * 1000));
+                if (lag.compareTo(maxLag) > 0) {
+                    markDown(replica, "replication lag " + lag);
+                } else if (!replica.healthy) {
+                    replica.healthy = true;
+                    log.info("Replica {} is back in rotation", replica.index);
+                }
+            } catch (SQLException e) {
+                markDown(replica, e.getMessage());
+            }
+        }
+    }
+
+    private int healthyCount() {
+        return (int) replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    private void markDown(Replica replica, String reason) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("Replica {} taken out of rotation: {}", replica.index, reason);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static final class Replica {
+        private final int index;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(int index, DataSource dataSource) {
+            this.index = index;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.taskflow.messaging;
+
+import com.example.taskflow.model.dto.event.EventType;
+import com.example.taskflow.model.dto.event.TaskBatchEventDto;
+import com.example.taskflow.model.dto.event.TaskEventDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Collapses board events per board and publishes them on the calling thread. The outbox relay
+ * hands over the events of each batch it reads, so everything committed within one poll interval
+ * is coalesced: repeated events for the same task collapse into its latest state, and a board
+ * with more than one event goes out as {@link TaskBatchEventDto} frames of at most
+ * {@code maxSize} events. A failed broadcast is thrown to the caller, which still holds the
+ * outbox rows. Publishing of one board runs one call at a time, so its frames leave in order.
+ */
+@Component
+@Slf4j
+public class BoardEventCoalescer {
+    private final EventBroadcaster eventBroadcaster;
+    private final int maxSize;
+
+    // Striped by board id; a lock rather than synchronized so virtual threads do not pin their carrier
+    private final ReentrantLock[] publishLocks = new ReentrantLock[64];
+
+    public BoardEventCoalescer(EventBroadcaster eventBroadcaster,
+                               @Value("${taskflow.notifications.batch.max-size:100}") int maxSize) {
+        this.eventBroadcaster = eventBroadcaster;
+        this.maxSize = maxSize;
+        for (int i = 0; i < publishLocks.length; i++) {
+            publishLocks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Publishes the events, given in commit order, grouped by board. Returns once every frame has
+     * been handed to the broadcaster; boards before a failing one have already been sent, so a
+     * retry of the same events delivers those again.
+     */
+    public void publish(List<TaskEventDto> events) {
+        Map<Long, Buffer> buffers = new LinkedHashMap<>();
+        for (TaskEventDto event : events) {
+            buffers.computeIfAbsent(event.boardId(), Buffer::new).add(event);
+        }
+
+        for (Buffer buffer : buffers.values()) {
+            ReentrantLock lock = publishLock(buffer.boardId);
+            lock.lock();
+            try {
+                send(buffer.boardId, new ArrayList<>(buffer.events.values()));
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void send(Long boardId, List<TaskEventDto> events) {
+        String destination = destination(boardId);
+        for (int from = 0; from < events.size(); from += maxSize) {
+            List<TaskEventDto> frame = events.subList(from, Math.min(events.size(), from + maxSize));
+            if (frame.size() == 1) {
+                eventBroadcaster.broadcast(destination, frame.get(0));
+            } else {
+                log.info("Sending WebSocket batch of {} events to {}", frame.size(), destination);
+                eventBroadcaster.broadcast(destination, new TaskBatchEventDto(boardId, List.copyOf(frame)));
+            }
+        }
+    }
+
+    private ReentrantLock publishLock(Long boardId) {
+        return publishLocks[Math.floorMod(boardId.hashCode(), publishLocks.length)];
+    }
+
+    private static String destination(Long boardId) {
+        return "/topic/board/" + boardId;
+    }
+
+    private static final class Buffer {
+        private final Long boardId;
+        private final Map<Long, TaskEventDto> events = new LinkedHashMap<>();
+
+        private Buffer(Long boardId) {
+            this.boardId = boardId;
+        }
+
+        private void add(TaskEventDto event) {
+            Long taskId = event.task().id();
+            // Removed first so the task moves to the position of its latest event; frames then stay in seq order
+            TaskEventDto previous = events.remove(taskId);
+
+            if (previous == null) {
+                events.put(taskId, event);
+            } else if (previous.type() == EventType.TASK_CREATED && event.type() == EventType.TASK_DELETED) {
+                // Subscribers never saw the task, so neither event needs to reach them
+                return;
+            } else if (previous.type() == EventType.TASK_CREATED) {
+                events.put(taskId, new TaskEventDto(EventType.TASK_CREATED, boardId, event.task(), event.seq()));
+            } else {
+                events.put(taskId, event);
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.taskflow.messaging;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+public record BroadcastEnvelope(
+        String destination,
+        JsonNode payload
+) {}
@@ -0,0 +1,54 @@
+package com.example.taskflow.messaging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times WebSocket broadcasts by destination type. Destinations embed board, task and user ids,
+ * so they are collapsed to their type before tagging to keep the number of series fixed no
+ * matter how many boards exist.
+ */
+@Component
+public class BroadcastMetrics {
+    private static final String PUBLISH_METRIC = "taskflow.events.publish";
+
+    private final MeterRegistry meterRegistry;
+    private final Counter relayFailures;
+
+    public BroadcastMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.relayFailures = Counter.builder("taskflow.events.relay.failures")
+                .description("Clustered broadcasts received from Redis that could not be relayed to local sessions")
+                .register(meterRegistry);
+    }
+
+    public void record(String destination, Runnable publish) {
+        long start = System.nanoTime();
+        String outcome = "failure";
+        try {
+            publish.run();
+            outcome = "success";
+        } finally {
+            Timer.builder(PUBLISH_METRIC)
+                    .description("Time to hand a WebSocket event to the broker or cluster channel")
+                    .tags("destination", destinationType(destination), "outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void relayFailed() {
+        relayFailures.increment();
+    }
+
+    static String destinationType(String destination) {
+        if (destination.startsWith("/topic/board/")) return "board";
+        if (destination.startsWith("/topic/task/")) return "task";
+        if (destination.startsWith("/topic/user/")) return "user";
+        return "other";
+    }
+}
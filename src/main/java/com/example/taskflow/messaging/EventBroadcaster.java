@@ -0,0 +1,8 @@
+package com.example.taskflow.messaging;
+
+/**
+ * Delivers a payload to STOMP subscribers of a destination on every application node.
+ */
+public interface EventBroadcaster {
+    void broadcast(String destination, Object payload);
+}
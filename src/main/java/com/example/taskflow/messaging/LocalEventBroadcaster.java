@@ -0,0 +1,19 @@
+package com.example.taskflow.messaging;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "taskflow.websocket.broadcast", havingValue = "local", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LocalEventBroadcaster implements EventBroadcaster {
+    private final SimpMessagingTemplate messagingTemplate;
+    private final BroadcastMetrics broadcastMetrics;
+
+    @Override
+    public void broadcast(String destination, Object payload) {
+        broadcastMetrics.record(destination, () -> messagingTemplate.convertAndSend(destination, payload));
+    }
+}
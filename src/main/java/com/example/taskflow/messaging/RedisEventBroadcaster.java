@@ -0,0 +1,74 @@
+package com.example.taskflow.messaging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * Publishes every broadcast to a Redis channel; each node, including the sender, relays
+ * what it receives to its own in-memory STOMP broker and therefore to its own sessions.
+ */
+@Component
+@ConditionalOnProperty(name = "taskflow.websocket.broadcast", havingValue = "redis")
+@RequiredArgsConstructor
+@Slf4j
+public class RedisEventBroadcaster implements EventBroadcaster, MessageListener {
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final BroadcastMetrics broadcastMetrics;
+
+    @Value("${taskflow.websocket.redis-channel}")
+    private String channel;
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+        log.info("WebSocket broadcasts are relayed through Redis channel {}", channel);
+    }
+
+    @Override
+    public void broadcast(String destination, Object payload) {
+        broadcastMetrics.record(destination, () -> {
+            try {
+                BroadcastEnvelope envelope = new BroadcastEnvelope(destination, objectMapper.valueToTree(payload));
+                redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(envelope));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not serialize broadcast for " + destination, e);
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            BroadcastEnvelope envelope = objectMapper.readValue(message.getBody(), BroadcastEnvelope.class);
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            accessor.setLeaveMutable(true);
+
+            messagingTemplate.send(envelope.destination(), MessageBuilder.createMessage(
+                    objectMapper.writeValueAsBytes(envelope.payload()), accessor.getMessageHeaders()));
+        } catch (Exception e) {
+            broadcastMetrics.relayFailed();
+            log.warn("Failed to relay clustered WebSocket broadcast", e);
+        }
+    }
+}
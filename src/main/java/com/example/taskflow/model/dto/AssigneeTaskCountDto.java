@@ -0,0 +1,7 @@
+package com.example.taskflow.model.dto;
+
+public record AssigneeTaskCountDto(
+        Long assigneeId,
+        String username,
+        long taskCount
+) {}
@@ -0,0 +1,9 @@
+package com.example.taskflow.model.dto;
+
+import java.util.List;
+
+// Boards of an owner with the owner's boards version they were read at, which is the list's ETag
+public record BoardListDto(
+        long version,
+        List<BoardResponseDto> boards
+) {}
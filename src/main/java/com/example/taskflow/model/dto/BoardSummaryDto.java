@@ -0,0 +1,20 @@
+package com.example.taskflow.model.dto;
+
+import com.example.taskflow.model.entity.TaskPriority;
+import com.example.taskflow.model.entity.TaskStatus;
+
+import java.util.List;
+import java.util.Map;
+
+public record BoardSummaryDto(
+        Long boardId,
+        long totalTasks,
+        Map<TaskStatus, Long> byStatus,
+        Map<TaskPriority, Long> byPriority,
+        List<AssigneeTaskCountDto> byAssignee,
+        long unassigned,
+        // Not done and past the deadline
+        long overdue,
+        // Not done and due within the reminder lead time
+        long dueSoon
+) {}
@@ -0,0 +1,8 @@
+package com.example.taskflow.model.dto;
+
+public enum BulkOperationType {
+    CREATE,
+    UPDATE,
+    MOVE,
+    ARCHIVE
+}
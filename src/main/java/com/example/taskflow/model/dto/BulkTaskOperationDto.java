@@ -0,0 +1,28 @@
+package com.example.taskflow.model.dto;
+
+import com.example.taskflow.model.entity.TaskPriority;
+import com.example.taskflow.model.entity.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+/**
+ * One step of a bulk request. CREATE needs title, status and priority; UPDATE changes whichever
+ * fields are present; MOVE changes the status; ARCHIVE needs only the task id.
+ */
+public record BulkTaskOperationDto(
+        @NotNull(message = "Operation type is mandatory")
+        BulkOperationType type,
+
+        Long taskId,
+
+        String title,
+
+        String description,
+
+        TaskStatus status,
+
+        TaskPriority priority,
+
+        LocalDateTime deadline
+) {}
@@ -0,0 +1,15 @@
+package com.example.taskflow.model.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record BulkTaskRequestDto(
+        @NotNull(message = "ID is mandatory")
+        Long boardId,
+
+        @NotEmpty(message = "At least one operation is required")
+        List<@Valid @NotNull BulkTaskOperationDto> operations
+) {}
@@ -0,0 +1,9 @@
+package com.example.taskflow.model.dto;
+
+import java.util.List;
+
+public record CommentPageDto(
+        List<CommentResponseDto> items,
+        String nextCursor,
+        int commentCount
+) {}
@@ -0,0 +1,10 @@
+package com.example.taskflow.model.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record CommentRequestDto(
+        @NotBlank(message = "Comment text is mandatory")
+        @Size(max = 4000, message = "Comment text must be at most 4000 characters")
+        String text
+) {}
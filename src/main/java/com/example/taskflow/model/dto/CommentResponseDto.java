@@ -0,0 +1,12 @@
+package com.example.taskflow.model.dto;
+
+import java.time.LocalDateTime;
+
+public record CommentResponseDto(
+        Long id,
+        Long taskId,
+        String text,
+        Long authorId,
+        String authorUsername,
+        LocalDateTime createdAt
+) {}
@@ -0,0 +1,11 @@
+package com.example.taskflow.model.dto;
+
+import java.time.LocalDateTime;
+
+public record DeadlineReminderDto(
+        Long taskId,
+        Long boardId,
+        String title,
+        LocalDateTime deadline,
+        String assigneeEmail
+) {}
@@ -0,0 +1,19 @@
+package com.example.taskflow.model.dto;
+
+import com.example.taskflow.model.entity.TaskPriority;
+import com.example.taskflow.model.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+
+public record TaskChangeDto(
+        long seq,
+        TaskResponseDto task
+) {
+    // Used by JPQL constructor expressions, which cannot instantiate the nested task themselves
+    public TaskChangeDto(long seq, Long id, String title, String description, TaskStatus status, TaskPriority priority,
+                         Long boardId, LocalDateTime deadline, boolean isArchived,
+                         Long assigneeId, String assigneeUsername, String assigneeEmail, long version) {
+        this(seq, new TaskResponseDto(id, title, description, status, priority, boardId, deadline, isArchived,
+                assigneeId, assigneeUsername, assigneeEmail, version));
+    }
+}
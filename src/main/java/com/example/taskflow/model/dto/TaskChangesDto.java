@@ -0,0 +1,11 @@
+package com.example.taskflow.model.dto;
+
+import java.util.List;
+
+public record TaskChangesDto(
+        // Oldest change first; archived tasks are included with isArchived = true
+        List<TaskChangeDto> changes,
+        // Pass as "since" on the next call
+        long seq,
+        boolean hasMore
+) {}
@@ -0,0 +1,9 @@
+package com.example.taskflow.model.dto;
+
+import java.util.List;
+
+// Tasks of a board with the board change sequence they were read at, which is the list's ETag
+public record TaskListDto(
+        long version,
+        List<TaskResponseDto> tasks
+) {}
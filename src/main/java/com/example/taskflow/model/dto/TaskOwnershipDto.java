@@ -0,0 +1,6 @@
+package com.example.taskflow.model.dto;
+
+public record TaskOwnershipDto(
+        Long boardId,
+        Long ownerId
+) {}
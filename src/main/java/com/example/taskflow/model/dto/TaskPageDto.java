@@ -0,0 +1,8 @@
+package com.example.taskflow.model.dto;
+
+import java.util.List;
+
+public record TaskPageDto(
+        List<TaskResponseDto> items,
+        String nextCursor
+) {}
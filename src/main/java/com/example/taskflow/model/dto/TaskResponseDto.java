@@ -14,5 +14,14 @@ public record TaskResponseDto (
         Long boardId,
         LocalDateTime deadline,
         boolean isArchived,
-        AssigneeDto assignee
-){}
+        AssigneeDto assignee,
+        long version
+){
+    // Used by JPQL constructor expressions, which cannot instantiate the nested assignee themselves
+    public TaskResponseDto(Long id, String title, String description, TaskStatus status, TaskPriority priority,
+                           Long boardId, LocalDateTime deadline, boolean isArchived,
+                           Long assigneeId, String assigneeUsername, String assigneeEmail, long version) {
+        this(id, title, description, status, priority, boardId, deadline, isArchived,
+                assigneeId != null ? new AssigneeDto(assigneeId, assigneeUsername, assigneeEmail) : null, version);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.taskflow.model.dto;
+
+import com.example.taskflow.model.entity.TaskPriority;
+import com.example.taskflow.model.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+
+public record TaskSearchResultDto(
+        Long id,
+        String title,
+        // Title and description with matched words wrapped in <mark></mark>
+        String headline,
+        TaskStatus status,
+        TaskPriority priority,
+        Long boardId,
+        LocalDateTime deadline,
+        float rank
+) {}
@@ -0,0 +1,6 @@
+package com.example.taskflow.model.dto;
+
+public enum TaskSort {
+    ID,
+    DEADLINE
+}
@@ -0,0 +1,9 @@
+package com.example.taskflow.model.dto.event;
+
+import com.example.taskflow.model.dto.CommentResponseDto;
+
+public record CommentEventDto(
+        EventType type,
+        Long taskId,
+        CommentResponseDto comment
+) {}
@@ -3,5 +3,8 @@ package com.example.taskflow.model.dto.event;
 public enum EventType {
     TASK_CREATED,
     TASK_UPDATED,
-    TASK_DELETED
+    TASK_DELETED,
+    TASK_BATCH,
+    COMMENT_ADDED,
+    COMMENT_DELETED
 }
@@ -0,0 +1,13 @@
+package com.example.taskflow.model.dto.event;
+
+import java.util.List;
+
+public record TaskBatchEventDto(
+        EventType type,
+        Long boardId,
+        List<TaskEventDto> events
+) {
+    public TaskBatchEventDto(Long boardId, List<TaskEventDto> events) {
+        this(EventType.TASK_BATCH, boardId, events);
+    }
+}
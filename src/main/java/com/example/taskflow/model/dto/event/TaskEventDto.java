@@ -5,5 +5,7 @@ import com.example.taskflow.model.dto.TaskResponseDto;
 public record TaskEventDto(
         EventType type,
         Long boardId,
-        TaskResponseDto task
+        TaskResponseDto task,
+        // Position of this change in the board's change sequence, usable as "since" for /api/tasks/changes
+        Long seq
 ) {}
@@ -12,7 +12,8 @@ import lombok.Setter;
 @NoArgsConstructor
 public class Board {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "boards_id_seq")
+    @SequenceGenerator(name = "boards_id_seq", sequenceName = "boards_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -21,4 +22,7 @@ public class Board {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id", nullable = false)
     private User owner;
+
+    @Version
+    private long version;
 }
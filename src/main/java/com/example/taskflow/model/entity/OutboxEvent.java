@@ -0,0 +1,47 @@
+package com.example.taskflow.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "task_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+public class OutboxEvent {
+    // Drawn one at a time at insert, never pooled: the relay sends rows in id order
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private OutboxEventType eventType;
+
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    private String destination;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false)
+    private String payload;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public OutboxEvent(OutboxEventType eventType, Long boardId, String destination, String payload) {
+        this.eventType = eventType;
+        this.boardId = boardId;
+        this.destination = destination;
+        this.payload = payload;
+    }
+}
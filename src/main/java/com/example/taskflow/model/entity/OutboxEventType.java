@@ -0,0 +1,8 @@
+package com.example.taskflow.model.entity;
+
+public enum OutboxEventType {
+    BOARD_UPDATE,
+    BOARD_BATCH,
+    USER_NOTIFICATION,
+    TASK_COMMENT
+}
@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 public class Task {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_id_seq")
+    @SequenceGenerator(name = "tasks_id_seq", sequenceName = "tasks_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -35,6 +36,17 @@ public class Task {
     @Column(nullable = false)
     private boolean isArchived;
 
+    // Board change sequence number of the latest write, assigned by TaskService
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    @Version
+    private long version;
+
+    // Maintained by a trigger on comments
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    private int commentCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assignee_id")
     private User assignee;
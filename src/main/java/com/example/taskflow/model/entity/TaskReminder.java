@@ -0,0 +1,29 @@
+package com.example.taskflow.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Records the deadline a task was last reminded about. A changed deadline no longer matches
+ * the row, so the task becomes eligible for a reminder again.
+ */
+@Entity
+@Table(name = "task_reminders")
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskReminder {
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(nullable = false)
+    private LocalDateTime deadline;
+
+    @Column(name = "sent_at", nullable = false)
+    private LocalDateTime sentAt;
+}
@@ -1,12 +1,57 @@
 package com.example.taskflow.repository;
 
 import com.example.taskflow.model.entity.Board;
+import com.example.taskflow.model.entity.TaskPriority;
+import com.example.taskflow.model.entity.TaskStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BoardRepository extends JpaRepository<Board, Long> {
     List<Board> findAllByOwnerId(Long ownerId);
+
+    @Query("SELECT b.owner.id FROM Board b WHERE b.id = :boardId")
+    Optional<Long> findOwnerIdById(@Param("boardId") Long boardId);
+
+    @Query(value = "SELECT change_seq FROM boards WHERE id = :boardId", nativeQuery = true)
+    Optional<Long> findChangeSeqById(@Param("boardId") Long boardId);
+
+    /**
+     * Advances the board's change sequence by {@code count} and returns its new value, so the
+     * caller owns the numbers {@code value - count + 1 .. value}. The board row stays locked until
+     * the transaction ends, which hands out the numbers of a board in commit order.
+     */
+    @Query(value = "UPDATE boards SET change_seq = change_seq + :count WHERE id = :boardId RETURNING change_seq",
+            nativeQuery = true)
+    Optional<Long> reserveChangeSeq(@Param("boardId") Long boardId, @Param("count") int count);
+
+    // Rows are bounded by statuses x priorities x assignees of the board, whatever its task count
+    @Query(value = """
+        SELECT c.status AS "status",
+               c.priority AS "priority",
+               c.assignee_id AS "assigneeId",
+               u.username AS "assigneeUsername",
+               c.task_count AS "taskCount"
+        FROM board_task_counters c
+        LEFT JOIN users u ON u.id = c.assignee_id
+        WHERE c.board_id = :boardId AND c.task_count > 0
+    """, nativeQuery = true)
+    List<TaskCounter> findTaskCounters(@Param("boardId") Long boardId);
+
+    interface TaskCounter {
+        TaskStatus getStatus();
+
+        TaskPriority getPriority();
+
+        Long getAssigneeId();
+
+        String getAssigneeUsername();
+
+        int getTaskCount();
+    }
 }
@@ -0,0 +1,53 @@
+package com.example.taskflow.repository;
+
+import com.example.taskflow.model.dto.CommentResponseDto;
+import com.example.taskflow.model.entity.Comment;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+    // Both pages are a backward range scan of idx_comments_task_created, stopped by the limit
+    @Query("""
+        SELECT new com.example.taskflow.model.dto.CommentResponseDto(c.id, c.task.id, c.text, a.id, a.username, c.createdAt)
+        FROM Comment c
+        JOIN c.author a
+        WHERE c.task.id = :taskId
+        ORDER BY c.createdAt DESC, c.id DESC
+    """)
+    List<CommentResponseDto> findNewestByTaskId(@Param("taskId") Long taskId, Limit limit);
+
+    @Query("""
+        SELECT new com.example.taskflow.model.dto.CommentResponseDto(c.id, c.task.id, c.text, a.id, a.username, c.createdAt)
+        FROM Comment c
+        JOIN c.author a
+        WHERE c.task.id = :taskId
+        AND (c.createdAt, c.id) < (:createdAt, :id)
+        ORDER BY c.createdAt DESC, c.id DESC
+    """)
+    List<CommentResponseDto> findOlderByTaskId(@Param("taskId") Long taskId,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id,
+                                               Limit limit);
+
+    @Query("""
+        SELECT new com.example.taskflow.model.dto.CommentResponseDto(c.id, c.task.id, c.text, a.id, a.username, c.createdAt)
+        FROM Comment c
+        JOIN c.author a
+        WHERE c.id = :id
+    """)
+    Optional<CommentResponseDto> findResponseById(@Param("id") Long id);
+
+    // Deletes without loading the entity first; the comment counter trigger still fires
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id = :id")
+    void deleteCommentById(@Param("id") Long id);
+}
@@ -0,0 +1,42 @@
+package com.example.taskflow.repository;
+
+import com.example.taskflow.model.dto.DeadlineReminderDto;
+import com.example.taskflow.model.entity.TaskReminder;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TaskReminderRepository extends JpaRepository<TaskReminder, Long> {
+    // Served by idx_tasks_deadline_pending; reminded rows drop out, so repeated calls walk the backlog
+    @Query("""
+        SELECT new com.example.taskflow.model.dto.DeadlineReminderDto(t.id, t.board.id, t.title, t.deadline, a.email)
+        FROM Task t
+        JOIN t.assignee a
+        WHERE t.deadline > :now AND t.deadline <= :horizon
+        AND t.status <> com.example.taskflow.model.entity.TaskStatus.DONE
+        AND t.isArchived = false
+        AND NOT EXISTS (
+            SELECT 1 FROM TaskReminder r WHERE r.taskId = t.id AND r.deadline = t.deadline
+        )
+        ORDER BY t.deadline, t.id
+    """)
+    List<DeadlineReminderDto> findDueWithoutReminder(@Param("now") LocalDateTime now,
+                                                     @Param("horizon") LocalDateTime horizon,
+                                                     Limit limit);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO task_reminders (task_id, deadline, sent_at)
+        SELECT t.id, t.deadline, :sentAt FROM tasks t WHERE t.id IN (:taskIds)
+        ON CONFLICT (task_id) DO UPDATE SET deadline = EXCLUDED.deadline, sent_at = EXCLUDED.sent_at
+    """, nativeQuery = true)
+    int markSent(@Param("taskIds") Collection<Long> taskIds, @Param("sentAt") LocalDateTime sentAt);
+}
@@ -1,31 +1,208 @@
 package com.example.taskflow.repository;
 
+import com.example.taskflow.model.dto.TaskChangeDto;
+import com.example.taskflow.model.dto.TaskOwnershipDto;
+import com.example.taskflow.model.dto.TaskResponseDto;
 import com.example.taskflow.model.entity.Task;
 import com.example.taskflow.model.entity.TaskPriority;
+import com.example.taskflow.model.entity.TaskStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
-    @Query("""
-        SELECT t FROM Task t 
-        WHERE t.board.id = :boardId 
+    String SELECT_TASK_RESPONSE = """
+        SELECT new com.example.taskflow.model.dto.TaskResponseDto(
+            t.id, t.title, t.description, t.status, t.priority, t.board.id, t.deadline, t.isArchived,
+            a.id, a.username, a.email, t.version)
+        FROM Task t
+        LEFT JOIN t.assignee a
+    """;
+
+    @Query(SELECT_TASK_RESPONSE + """
+        WHERE t.board.id = :boardId
         AND t.isArchived = false
         AND (:priority IS NULL OR t.priority = :priority)
-        AND (:assigneeId IS NULL OR t.assignee.id = :assigneeId)
+        AND (:assigneeId IS NULL OR a.id = :assigneeId)
     """)
-    List<Task> findByBoardIdWithFilters(
+    List<TaskResponseDto> findByBoardIdWithFilters(
             @Param("boardId") Long boardId,
             @Param("priority") TaskPriority priority,
             @Param("assigneeId") Long assigneeId
     );
-    @Query("SELECT t FROM Task t WHERE t.deadline BETWEEN :start AND :end " +
-    "AND t.status != 'DONE' AND t.isArchived = false")
-    List<Task> findAllByDeadlineBetween(@Param("start")LocalDateTime start,
-                                        @Param("end") LocalDateTime end);
+
+    @Query(SELECT_TASK_RESPONSE + """
+        WHERE t.board.id = :boardId
+        AND t.isArchived = false
+        AND (:priority IS NULL OR t.priority = :priority)
+        AND (:assigneeId IS NULL OR a.id = :assigneeId)
+        AND (:afterId IS NULL OR t.id > :afterId)
+        ORDER BY t.id
+    """)
+    List<TaskResponseDto> findPageByBoardIdOrderById(
+            @Param("boardId") Long boardId,
+            @Param("priority") TaskPriority priority,
+            @Param("assigneeId") Long assigneeId,
+            @Param("afterId") Long afterId,
+            Limit limit
+    );
+
+    @Query(SELECT_TASK_RESPONSE + """
+        WHERE t.board.id = :boardId
+        AND t.isArchived = false
+        AND (:priority IS NULL OR t.priority = :priority)
+        AND (:assigneeId IS NULL OR a.id = :assigneeId)
+        AND (:afterId IS NULL
+             OR (:afterDeadline IS NULL AND t.deadline IS NULL AND t.id > :afterId)
+             OR (:afterDeadline IS NOT NULL AND (t.deadline > :afterDeadline
+                                                 OR (t.deadline = :afterDeadline AND t.id > :afterId)
+                                                 OR t.deadline IS NULL)))
+        ORDER BY t.deadline ASC NULLS LAST, t.id ASC
+    """)
+    List<TaskResponseDto> findPageByBoardIdOrderByDeadline(
+            @Param("boardId") Long boardId,
+            @Param("priority") TaskPriority priority,
+            @Param("assigneeId") Long assigneeId,
+            @Param("afterDeadline") LocalDateTime afterDeadline,
+            @Param("afterId") Long afterId,
+            Limit limit
+    );
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_TASK_RESPONSE + """
+        WHERE t.board.id = :boardId
+        AND t.isArchived = false
+        AND (:priority IS NULL OR t.priority = :priority)
+        AND (:assigneeId IS NULL OR a.id = :assigneeId)
+        ORDER BY t.id
+    """)
+    Stream<TaskResponseDto> streamByBoardIdWithFilters(
+            @Param("boardId") Long boardId,
+            @Param("priority") TaskPriority priority,
+            @Param("assigneeId") Long assigneeId
+    );
+
+    // Served by idx_tasks_board_change_seq; archived tasks are returned as well
+    @Query("""
+        SELECT new com.example.taskflow.model.dto.TaskChangeDto(
+            t.changeSeq, t.id, t.title, t.description, t.status, t.priority, t.board.id, t.deadline, t.isArchived,
+            a.id, a.username, a.email, t.version)
+        FROM Task t
+        LEFT JOIN t.assignee a
+        WHERE t.board.id = :boardId
+        AND t.changeSeq > :since
+        ORDER BY t.changeSeq
+    """)
+    List<TaskChangeDto> findChangedSince(@Param("boardId") Long boardId, @Param("since") long since, Limit limit);
+
+    @Query("""
+        SELECT new com.example.taskflow.model.dto.TaskOwnershipDto(b.id, b.owner.id)
+        FROM Task t
+        JOIN t.board b
+        WHERE t.id = :taskId
+    """)
+    Optional<TaskOwnershipDto> findOwnershipById(@Param("taskId") Long taskId);
+
+    @Query("SELECT t.commentCount FROM Task t WHERE t.id = :taskId")
+    Optional<Integer> findCommentCountById(@Param("taskId") Long taskId);
+
+    // Range scan of idx_tasks_board_deadline_pending up to the horizon
+    @Query("""
+        SELECT COUNT(CASE WHEN t.deadline < :now THEN 1 END) AS overdue,
+               COUNT(CASE WHEN t.deadline >= :now THEN 1 END) AS dueSoon
+        FROM Task t
+        WHERE t.board.id = :boardId
+        AND t.isArchived = false
+        AND t.status <> com.example.taskflow.model.entity.TaskStatus.DONE
+        AND t.deadline < :horizon
+    """)
+    DeadlineCounts countPendingDeadlines(@Param("boardId") Long boardId,
+                                         @Param("now") LocalDateTime now,
+                                         @Param("horizon") LocalDateTime horizon);
+
+    @Query("""
+        SELECT t FROM Task t
+        LEFT JOIN FETCH t.assignee
+        WHERE t.board.id = :boardId
+        AND t.id IN :ids
+    """)
+    List<Task> findAllByBoardIdAndIdIn(@Param("boardId") Long boardId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * Full-text search over the tasks on boards owned by {@code ownerId}, best match first. Matches
+     * come from the GIN-indexed search_vector; ranking and keyset filtering happen on the matches
+     * only, and ts_headline runs on the returned page only because it re-parses the text.
+     */
+    @Query(value = """
+        WITH search AS (SELECT websearch_to_tsquery('simple', :query) AS query),
+        hits AS (
+            SELECT t.id, t.title, t.description, t.status, t.priority, t.board_id, t.deadline,
+                   ts_rank(t.search_vector, s.query) AS rank
+            FROM tasks t
+            JOIN boards b ON b.id = t.board_id
+            CROSS JOIN search s
+            WHERE b.owner_id = :ownerId
+            AND t.is_archived = false
+            AND t.search_vector @@ s.query
+            AND (CAST(:boardId AS bigint) IS NULL OR t.board_id = CAST(:boardId AS bigint))
+            AND (CAST(:afterRank AS real) IS NULL
+                 OR (ts_rank(t.search_vector, s.query), t.id) < (CAST(:afterRank AS real), CAST(:afterId AS bigint)))
+            ORDER BY rank DESC, t.id DESC
+            LIMIT :limit
+        )
+        SELECT h.id AS "id",
+               h.title AS "title",
+               ts_headline('simple', concat_ws(' ', h.title, h.description), s.query,
+                           'StartSel=<mark>, StopSel=</mark>, MaxWords=30, MinWords=10, MaxFragments=2') AS "headline",
+               h.status AS "status",
+               h.priority AS "priority",
+               h.board_id AS "boardId",
+               h.deadline AS "deadline",
+               h.rank AS "rank"
+        FROM hits h
+        CROSS JOIN search s
+        ORDER BY h.rank DESC, h.id DESC
+    """, nativeQuery = true)
+    List<TaskSearchHit> search(@Param("ownerId") Long ownerId,
+                               @Param("query") String query,
+                               @Param("boardId") Long boardId,
+                               @Param("afterRank") Float afterRank,
+                               @Param("afterId") Long afterId,
+                               @Param("limit") int limit);
+
+    interface DeadlineCounts {
+        long getOverdue();
+
+        long getDueSoon();
+    }
+
+    interface TaskSearchHit {
+        Long getId();
+
+        String getTitle();
+
+        String getHeadline();
+
+        TaskStatus getStatus();
+
+        TaskPriority getPriority();
+
+        Long getBoardId();
+
+        LocalDateTime getDeadline();
+
+        Float getRank();
+    }
 }
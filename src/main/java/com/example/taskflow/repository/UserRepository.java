@@ -2,6 +2,9 @@ package com.example.taskflow.repository;
 
 import com.example.taskflow.model.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -9,4 +12,11 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    @Query(value = "SELECT boards_version FROM users WHERE id = :userId", nativeQuery = true)
+    Optional<Long> findBoardsVersionById(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "UPDATE users SET boards_version = boards_version + 1 WHERE id = :userId", nativeQuery = true)
+    void incrementBoardsVersion(@Param("userId") Long userId);
 }
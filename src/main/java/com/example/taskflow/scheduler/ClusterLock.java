@@ -0,0 +1,27 @@
+package com.example.taskflow.scheduler;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Postgres advisory locks used to let exactly one node run a scheduled job at a time. The lock
+ * is transaction-scoped, so it is released on commit or rollback of the caller's transaction.
+ */
+@Component
+public class ClusterLock {
+    public static final long OUTBOX_RELAY = 0x7461736b6f7574L;      // "taskout"
+    public static final long DEADLINE_REMINDERS = 0x7461736b72656dL; // "taskrem"
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean tryLockForTransaction(long key) {
+        return (Boolean) entityManager.createNativeQuery("SELECT pg_try_advisory_xact_lock(:key)")
+                .setParameter("key", key)
+                .getSingleResult();
+    }
+}
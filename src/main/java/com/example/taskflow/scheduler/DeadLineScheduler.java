@@ -1,50 +1,95 @@
 package com.example.taskflow.scheduler;
 
-import com.example.taskflow.model.entity.Task;
-import com.example.taskflow.repository.TaskRepository;
+import com.example.taskflow.model.dto.DeadlineReminderDto;
+import com.example.taskflow.repository.TaskReminderRepository;
 import com.example.taskflow.service.NotificationService;
-import com.example.taskflow.service.TaskService;
-import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * Sends each assignee one warning per task deadline once the deadline comes within the lead
+ * time. The sweep runs every minute, so warnings go out within a minute of the mark. Due tasks
+ * are read page by page. Each page is recorded in task_reminders in the same transaction that
+ * selected it, under a cluster-wide lock, so a reminder is never sent twice even with several
+ * nodes running. The warnings are written to the outbox in that same transaction, so a page is
+ * either recorded and delivered by the outbox relay or neither.
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class DeadLineScheduler {
-    private final TaskRepository taskRepository;
+    private final TaskReminderRepository reminderRepository;
     private final NotificationService notificationService;
+    private final ClusterLock clusterLock;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration leadTime;
+    private final int pageSize;
+    private final Timer sweepTimer;
+    private final Counter queuedWarnings;
 
-    @Scheduled(cron = "0 0 * * * *")
-    @Transactional
+    public DeadLineScheduler(TaskReminderRepository reminderRepository,
+                             NotificationService notificationService,
+                             ClusterLock clusterLock,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${taskflow.reminders.lead-time:24h}") Duration leadTime,
+                             @Value("${taskflow.reminders.page-size:500}") int pageSize) {
+        this.reminderRepository = reminderRepository;
+        this.notificationService = notificationService;
+        this.clusterLock = clusterLock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.leadTime = leadTime;
+        this.pageSize = pageSize;
+        this.sweepTimer = Timer.builder("taskflow.reminders.sweep")
+                .description("Duration of one deadline reminder sweep")
+                .register(meterRegistry);
+        this.queuedWarnings = Counter.builder("taskflow.reminders.queued")
+                .description("Deadline warnings recorded and written to the outbox")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${taskflow.reminders.sweep-interval-ms:60000}")
     public void checkUpcomingDeadlines() {
-        log.info("Checking for upcoming deadlines...");
+        sweepTimer.record(this::sweep);
+    }
 
+    private void sweep() {
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime startWindow = now.plusHours(24);
-        LocalDateTime endWindow = now.plusHours(25);
-
-        List<Task> tasksDue = taskRepository.findAllByDeadlineBetween(endWindow, endWindow);
-
-        if (tasksDue.isEmpty()) {
-            log.info("No tasks due in 24 hours found.");
-        } else {
-            log.info("Found {} tasks due in 24 hours found. Scheduler thread: {}", tasksDue.size(), Thread.currentThread().getName());
-            tasksDue.forEach(task -> {
-                if (task.getAssignee() != null) {
-                    notificationService.sendDeadlineWarning(
-                            task.getId(),
-                            task.getBoard().getId(),
-                            task.getTitle(),
-                            task.getAssignee().getEmail()
-                    );
-                }
-            });
+        LocalDateTime horizon = now.plus(leadTime);
+
+        int total = 0;
+        Integer reminded;
+        do {
+            reminded = transactionTemplate.execute(status -> remindPage(now, horizon));
+            total += reminded != null ? reminded : 0;
+        } while (reminded != null && reminded == pageSize);
+        queuedWarnings.increment(total);
+
+        if (total > 0) {
+            log.info("Queued {} deadline warnings for tasks due by {}. Scheduler thread: {}",
+                    total, horizon, Thread.currentThread().getName());
         }
     }
+
+    private int remindPage(LocalDateTime now, LocalDateTime horizon) {
+        if (!clusterLock.tryLockForTransaction(ClusterLock.DEADLINE_REMINDERS)) return 0;
+
+        List<DeadlineReminderDto> due = reminderRepository.findDueWithoutReminder(now, horizon, Limit.of(pageSize));
+        if (due.isEmpty()) return 0;
+
+        reminderRepository.markSent(due.stream().map(DeadlineReminderDto::taskId).toList(), now);
+        due.forEach(notificationService::sendDeadlineWarning);
+        return due.size();
+    }
 }
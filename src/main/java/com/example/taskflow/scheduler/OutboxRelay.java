@@ -0,0 +1,68 @@
+package com.example.taskflow.scheduler;
+
+import com.example.taskflow.model.entity.OutboxEvent;
+import com.example.taskflow.repository.OutboxRepository;
+import com.example.taskflow.service.NotificationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Drains the task outbox in id order. Every node polls, but only the one holding the advisory
+ * lock relays a batch. Ids are drawn at insert, not at commit, so across boards a row with a
+ * lower id can commit after a higher one and is then relayed in a later batch. Task writes draw
+ * their outbox id while holding the board row lock taken by the change sequence, so the events
+ * of one board do follow commit order.
+ * <p>
+ * A batch is broadcast synchronously and its rows are deleted only after every event has been
+ * handed to the broadcaster. A broker failure propagates, rolls the transaction back and the
+ * whole batch is retried on the next poll, so delivery is at-least-once: events sent before the
+ * failure go out again.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+    private final OutboxRepository outboxRepository;
+    private final NotificationService notificationService;
+    private final ClusterLock clusterLock;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public OutboxRelay(OutboxRepository outboxRepository,
+                       NotificationService notificationService,
+                       ClusterLock clusterLock,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${taskflow.outbox.batch-size:200}") int batchSize) {
+        this.outboxRepository = outboxRepository;
+        this.notificationService = notificationService;
+        this.clusterLock = clusterLock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${taskflow.outbox.poll-interval-ms:100}")
+    public void relay() {
+        Integer relayed;
+        do {
+            relayed = transactionTemplate.execute(status -> relayBatch());
+        } while (relayed != null && relayed == batchSize);
+    }
+
+    private int relayBatch() {
+        if (!clusterLock.tryLockForTransaction(ClusterLock.OUTBOX_RELAY)) return 0;
+
+        List<OutboxEvent> batch = outboxRepository.findByOrderByIdAsc(Limit.of(batchSize));
+        if (!batch.isEmpty()) {
+            notificationService.publish(batch);
+            outboxRepository.deleteAllByIdInBatch(batch.stream().map(OutboxEvent::getId).toList());
+            log.debug("Relayed {} outbox events", batch.size());
+        }
+        return batch.size();
+    }
+}
@@ -1,7 +1,6 @@
 package com.example.taskflow.security;
 
-import com.example.taskflow.repository.BoardRepository;
-import com.example.taskflow.repository.TaskRepository;
+import com.example.taskflow.model.entity.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
@@ -9,26 +8,25 @@ import org.springframework.stereotype.Component;
 @Component("boardSecurity")
 @RequiredArgsConstructor
 public class BoardSecurity {
-    private final BoardRepository boardRepository;
-    private final TaskRepository taskRepository;
+    private final OwnershipCache ownershipCache;
 
     public boolean isOwner(Authentication authentication, Long boardId) {
         if (boardId == null) return false;
 
-        String userEmail = authentication.getName();
+        Long userId = userId(authentication);
 
-        return boardRepository.findById(boardId)
-                .map(board -> board.getOwner().getEmail().equals(userEmail))
-                .orElse(false);
+        return userId != null && userId.equals(ownershipCache.ownerOfBoard(boardId));
     }
 
     public boolean isBoardOwnerOfTask(Authentication authentication, Long taskId) {
         if (taskId == null) return false;
 
-        String userEmail = authentication.getName();
+        Long userId = userId(authentication);
 
-        return taskRepository.findById(taskId)
-                .map(task -> task.getBoard().getOwner().getEmail().equals(userEmail))
-                .orElse(false);
+        return userId != null && userId.equals(ownershipCache.ownerOfTaskBoard(taskId));
+    }
+
+    private static Long userId(Authentication authentication) {
+        return authentication != null && authentication.getPrincipal() instanceof User user ? user.getId() : null;
     }
 }
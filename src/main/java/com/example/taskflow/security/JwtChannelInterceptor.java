@@ -11,15 +11,13 @@ import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class JwtChannelInterceptor implements ChannelInterceptor {
-    private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -30,21 +28,17 @@ public class JwtChannelInterceptor implements ChannelInterceptor {
 
             if (authHeader != null && authHeader.startsWith("Bearer ")) {
                 String token = authHeader.substring(7);
-                String username = jwtService.extractUsername(token);
+                UserDetails userDetails = principalCache.resolve(token);
 
-                if (username != null) {
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                if (userDetails != null) {
+                    UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(userDetails,
+                            null, userDetails.getAuthorities());
 
-                    if (jwtService.isTokenValid(token, userDetails)) {
-                        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(userDetails,
-                                null, userDetails.getAuthorities());
+                    accessor.setUser(auth);
 
-                        accessor.setUser(auth);
+                    SecurityContextHolder.getContext().setAuthentication(auth);
 
-                        SecurityContextHolder.getContext().setAuthentication(auth);
-
-                        log.info("WebSocket Authenticated user: {}", username);
-                    }
+                    log.info("WebSocket Authenticated user: {}", userDetails.getUsername());
                 }
             } else {
                 log.warn("WebSocket connection attempt without valid JWT token");
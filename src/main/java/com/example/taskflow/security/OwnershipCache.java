@@ -0,0 +1,76 @@
+package com.example.taskflow.security;
+
+import com.example.taskflow.cache.AfterCommit;
+import com.example.taskflow.model.dto.TaskOwnershipDto;
+import com.example.taskflow.repository.BoardRepository;
+import com.example.taskflow.repository.TaskRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Remembers which board a task belongs to and who owns each board. Neither relation changes
+ * after creation, so the only invalidation needed is dropping a board when it is deleted, once
+ * the deletion has committed; misses are never cached. Entries still expire after the TTL so
+ * other nodes forget deleted boards eventually.
+ */
+@Component
+public class OwnershipCache {
+    private final BoardRepository boardRepository;
+    private final TaskRepository taskRepository;
+    private final Cache<Long, Long> boardOwners;
+    private final Cache<Long, Long> taskBoards;
+
+    public OwnershipCache(BoardRepository boardRepository,
+                          TaskRepository taskRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${taskflow.security.ownership-cache.maximum-size:100000}") long maximumSize,
+                          @Value("${taskflow.security.ownership-cache.ttl:10m}") Duration ttl) {
+        this.boardRepository = boardRepository;
+        this.taskRepository = taskRepository;
+        this.boardOwners = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).recordStats().build();
+        this.taskBoards = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, boardOwners, "board-owners");
+        CaffeineCacheMetrics.monitor(meterRegistry, taskBoards, "task-boards");
+    }
+
+    /**
+     * Returns the owner id of the board, or {@code null} when the board does not exist.
+     */
+    public Long ownerOfBoard(Long boardId) {
+        Long ownerId = boardOwners.getIfPresent(boardId);
+        if (ownerId != null) return ownerId;
+
+        ownerId = boardRepository.findOwnerIdById(boardId).orElse(null);
+        if (ownerId != null) {
+            boardOwners.put(boardId, ownerId);
+        }
+        return ownerId;
+    }
+
+    /**
+     * Returns the owner id of the board holding the task, or {@code null} when the task does not exist.
+     */
+    public Long ownerOfTaskBoard(Long taskId) {
+        Long boardId = taskBoards.getIfPresent(taskId);
+        if (boardId != null) return ownerOfBoard(boardId);
+
+        TaskOwnershipDto ownership = taskRepository.findOwnershipById(taskId).orElse(null);
+        if (ownership == null) return null;
+
+        taskBoards.put(taskId, ownership.boardId());
+        boardOwners.put(ownership.boardId(), ownership.ownerId());
+        return ownership.ownerId();
+    }
+
+    // Task entries of the board stay behind; they resolve through ownerOfBoard, which no longer finds it
+    public void evictBoard(Long boardId) {
+        // Evicting earlier would let a concurrent check reload the owner from the not yet deleted row
+        AfterCommit.run(() -> boardOwners.invalidate(boardId));
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.taskflow.security;
+
+import com.example.taskflow.model.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves bearer tokens to user principals, remembering the result per token so repeated
+ * requests skip both the signature check and the user lookup. Entries are keyed by the token's
+ * SHA-256 and live until the token expires or the configured TTL passes, whichever is sooner;
+ * the TTL bounds how long another node can serve a principal after the user changed.
+ */
+@Component
+@Slf4j
+public class PrincipalCache {
+    private final JwtService jwtService;
+    private final UserDetailsService userDetailsService;
+    private final Cache<String, CachedPrincipal> principals;
+    private final Timer validTokens;
+    private final Timer invalidTokens;
+
+    public PrincipalCache(JwtService jwtService,
+                          UserDetailsService userDetailsService,
+                          MeterRegistry meterRegistry,
+                          @Value("${taskflow.security.principal-cache.maximum-size:10000}") long maximumSize,
+                          @Value("${taskflow.security.principal-cache.ttl:5m}") Duration ttl) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry(ttl.toNanos()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "jwt-principals");
+        this.validTokens = validationTimer(meterRegistry, "valid");
+        this.invalidTokens = validationTimer(meterRegistry, "invalid");
+    }
+
+    private static Timer validationTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("taskflow.jwt.validation")
+                .description("Signature and expiry checks of tokens not found in the principal cache")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the principal for a valid token, or {@code null} when the token is invalid,
+     * expired or names a user that no longer exists.
+     */
+    public UserDetails resolve(String token) {
+        String key = hash(token);
+        CachedPrincipal cached = principals.getIfPresent(key);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return cached.userDetails();
+        }
+
+        long start = System.nanoTime();
+        Claims claims = jwtService.parseValidClaims(token).orElse(null);
+        (claims != null ? validTokens : invalidTokens).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (claims == null) return null;
+
+        UserDetails userDetails;
+        try {
+            userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+        } catch (UsernameNotFoundException e) {
+            log.debug("Token subject {} no longer exists", claims.getSubject());
+            return null;
+        }
+
+        principals.put(key, new CachedPrincipal(userDetails, claims.getExpiration().getTime()));
+        return userDetails;
+    }
+
+    public void evictUser(Long userId) {
+        principals.asMap().values().removeIf(principal ->
+                principal.userDetails() instanceof User user && user.getId().equals(userId));
+    }
+
+    public void evictAll() {
+        principals.invalidateAll();
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record CachedPrincipal(UserDetails userDetails, long expiresAtMillis) {
+    }
+
+    private record TokenExpiry(long maxTtlNanos) implements Expiry<String, CachedPrincipal> {
+        @Override
+        public long expireAfterCreate(String key, CachedPrincipal value, long currentTime) {
+            long untilExpiry = Duration.ofMillis(value.expiresAtMillis() - System.currentTimeMillis()).toNanos();
+            return Math.max(0, Math.min(untilExpiry, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedPrincipal value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedPrincipal value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
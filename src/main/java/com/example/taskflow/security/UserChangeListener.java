@@ -0,0 +1,32 @@
+package com.example.taskflow.security;
+
+import com.example.taskflow.cache.AfterCommit;
+import com.example.taskflow.cache.BoardCacheEvictor;
+import com.example.taskflow.model.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops cached principals of a user whose row changed, and the cached task lists, which show
+ * the user as assignee. Eviction waits for the commit so a concurrent request cannot reload and
+ * re-cache the old row in between.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserChangeListener {
+    // Looked up lazily: Hibernate creates entity listeners while the EntityManagerFactory the cache depends on is still being built
+    private final ObjectProvider<PrincipalCache> principalCache;
+    private final ObjectProvider<BoardCacheEvictor> boardCacheEvictor;
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        boardCacheEvictor.getObject().evictAllBoards();
+
+        Long userId = user.getId();
+        AfterCommit.run(() -> principalCache.getObject().evictUser(userId));
+    }
+}
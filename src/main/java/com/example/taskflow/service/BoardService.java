@@ -1,43 +1,56 @@
 package com.example.taskflow.service;
 
+import com.example.taskflow.cache.BoardCacheEvictor;
+import com.example.taskflow.datasource.RecentWrites;
 import com.example.taskflow.exception.ResourceNotFoundException;
+import com.example.taskflow.model.dto.BoardListDto;
 import com.example.taskflow.model.dto.BoardRequestDto;
 import com.example.taskflow.model.dto.BoardResponseDto;
 import com.example.taskflow.model.entity.Board;
 import com.example.taskflow.model.entity.User;
 import com.example.taskflow.repository.BoardRepository;
+import com.example.taskflow.repository.UserRepository;
+import com.example.taskflow.security.OwnershipCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class BoardService {
     private final BoardRepository boardRepository;
+    private final UserRepository userRepository;
+    private final BoardCacheEvictor boardCacheEvictor;
+    private final OwnershipCache ownershipCache;
+    private final RecentWrites recentWrites;
 
-    @Transactional
-    @Cacheable(value = "boards", key = "#userId")
-    public List<BoardResponseDto> getAllBoardsByOwner(Long userId) {
+    // The boards version moves on with every board write; read in the same snapshot as the boards, it serves as ETag
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    @Cacheable(value = "board-lists", key = "#userId")
+    public BoardListDto getAllBoardsByOwner(Long userId) {
         log.debug("Fetching boards for user ID: {}", userId);
-        return boardRepository.findAllByOwnerId(userId).stream()
-                .map(this::mapToResponse)
-                .toList();
+        return recentWrites.load("board-lists", String.valueOf(userId), () -> new BoardListDto(
+                userRepository.findBoardsVersionById(userId)
+                        .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId)),
+                boardRepository.findAllByOwnerId(userId).stream()
+                        .map(this::mapToResponse)
+                        .toList()));
     }
 
     @Transactional
-    @CacheEvict(value = "boards", key = "#owner.id")
+    @CacheEvict(value = "board-lists", key = "#owner.id")
     public BoardResponseDto createBoard(BoardRequestDto dto, User owner) {
         Board board = new Board();
         board.setTitle(dto.title());
         board.setOwner(owner);
 
         Board savedBoard = boardRepository.save(board);
+        userRepository.incrementBoardsVersion(owner.getId());
         log.info("Board created: ID={} Title='{}' by UserID={}",
                 savedBoard.getId(), savedBoard.getTitle(), owner.getId());
 
@@ -45,7 +58,7 @@ public class BoardService {
     }
 
     @Transactional
-    @CacheEvict(value = "boards", allEntries = true)
+    @CacheEvict(value = "board-lists", allEntries = true)
     public BoardResponseDto updateBoard(Long boardId, BoardRequestDto dto) {
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(() -> new ResourceNotFoundException("Board not found with id: " + boardId));
@@ -56,16 +69,21 @@ public class BoardService {
         }
 
         board.setTitle(dto.title());
-        return mapToResponse(boardRepository.save(board));
+        Board savedBoard = boardRepository.saveAndFlush(board);
+        userRepository.incrementBoardsVersion(board.getOwner().getId());
+
+        return mapToResponse(savedBoard);
     }
 
     @Transactional
-    @CacheEvict(value = "boards", allEntries = true)
+    @CacheEvict(value = "board-lists", allEntries = true)
     public void deleteBoard(Long boardId) {
-        if (!boardRepository.existsById(boardId)) {
-            throw new ResourceNotFoundException("Board not found with id: " + boardId);
-        }
+        Long ownerId = boardRepository.findOwnerIdById(boardId)
+                .orElseThrow(() -> new ResourceNotFoundException("Board not found with id: " + boardId));
         boardRepository.deleteById(boardId);
+        userRepository.incrementBoardsVersion(ownerId);
+        boardCacheEvictor.evictBoard(boardId);
+        ownershipCache.evictBoard(boardId);
 
         log.info("Board deleted: ID={}", boardId);
     }
@@ -0,0 +1,76 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.model.dto.AssigneeTaskCountDto;
+import com.example.taskflow.model.dto.BoardSummaryDto;
+import com.example.taskflow.model.entity.TaskPriority;
+import com.example.taskflow.model.entity.TaskStatus;
+import com.example.taskflow.repository.BoardRepository;
+import com.example.taskflow.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Task counts of a board for dashboards. Status, priority and assignee counts are summed from
+ * board_task_counters, which a trigger keeps current on every task write. Overdue and due-soon
+ * totals depend on the clock, so they are counted on read from the board's pending deadlines
+ * within the reminder lead time.
+ */
+@Service
+public class BoardSummaryService {
+    private final BoardRepository boardRepository;
+    private final TaskRepository taskRepository;
+    private final Duration dueSoonWindow;
+
+    public BoardSummaryService(BoardRepository boardRepository,
+                               TaskRepository taskRepository,
+                               @Value("${taskflow.reminders.lead-time:24h}") Duration dueSoonWindow) {
+        this.boardRepository = boardRepository;
+        this.taskRepository = taskRepository;
+        this.dueSoonWindow = dueSoonWindow;
+    }
+
+    @Transactional(readOnly = true)
+    public BoardSummaryDto getSummary(Long boardId) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) byStatus.put(status, 0L);
+        Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+        for (TaskPriority priority : TaskPriority.values()) byPriority.put(priority, 0L);
+        Map<Long, AssigneeTaskCountDto> byAssignee = new LinkedHashMap<>();
+        long total = 0;
+        long unassigned = 0;
+
+        for (BoardRepository.TaskCounter counter : boardRepository.findTaskCounters(boardId)) {
+            long count = counter.getTaskCount();
+            total += count;
+            byStatus.merge(counter.getStatus(), count, Long::sum);
+            byPriority.merge(counter.getPriority(), count, Long::sum);
+            if (counter.getAssigneeId() == null) {
+                unassigned += count;
+            } else {
+                byAssignee.merge(counter.getAssigneeId(),
+                        new AssigneeTaskCountDto(counter.getAssigneeId(), counter.getAssigneeUsername(), count),
+                        (a, b) -> new AssigneeTaskCountDto(a.assigneeId(), a.username(), a.taskCount() + b.taskCount()));
+            }
+        }
+
+        List<AssigneeTaskCountDto> assignees = new ArrayList<>(byAssignee.values());
+        assignees.sort(Comparator.comparingLong(AssigneeTaskCountDto::taskCount).reversed()
+                .thenComparing(AssigneeTaskCountDto::assigneeId));
+
+        LocalDateTime now = LocalDateTime.now();
+        TaskRepository.DeadlineCounts deadlines = taskRepository.countPendingDeadlines(boardId, now, now.plus(dueSoonWindow));
+
+        return new BoardSummaryDto(boardId, total, byStatus, byPriority, List.copyOf(assignees), unassigned,
+                deadlines.getOverdue(), deadlines.getDueSoon());
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.exception.BadRequestException;
+import com.example.taskflow.model.dto.CommentResponseDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the oldest comment on a page. Encoded as an opaque URL-safe token of the form
+ * {@code <createdAt>|<id>}.
+ */
+record CommentCursor(LocalDateTime createdAt, Long id) {
+
+    static CommentCursor after(CommentResponseDto comment) {
+        return new CommentCursor(comment.createdAt(), comment.id());
+    }
+
+    String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static CommentCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 2) {
+                throw new BadRequestException("Invalid cursor: " + token);
+            }
+            return new CommentCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.cache.CommentCacheEvictor;
+import com.example.taskflow.datasource.RecentWrites;
+import com.example.taskflow.exception.ResourceNotFoundException;
+import com.example.taskflow.model.dto.CommentPageDto;
+import com.example.taskflow.model.dto.CommentRequestDto;
+import com.example.taskflow.model.dto.CommentResponseDto;
+import com.example.taskflow.model.dto.TaskOwnershipDto;
+import com.example.taskflow.model.dto.event.CommentEventDto;
+import com.example.taskflow.model.dto.event.EventType;
+import com.example.taskflow.model.entity.Comment;
+import com.example.taskflow.model.entity.Task;
+import com.example.taskflow.repository.CommentRepository;
+import com.example.taskflow.repository.TaskRepository;
+import com.example.taskflow.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CommentService {
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final CommentRepository commentRepository;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    private final CommentCacheEvictor commentCacheEvictor;
+    private final RecentWrites recentWrites;
+
+    /**
+     * Newest comments first, older ones through the cursor of the previous page. The first page
+     * is what opening a task shows, so it is cached per page size until the thread changes.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(value = CommentCacheEvictor.COMMENTS_CACHE,
+            key = "#taskId + ':' + T(com.example.taskflow.service.CommentService).pageSize(#limit)",
+            condition = "#cursor == null")
+    public CommentPageDto getComments(Long taskId, String cursor, int limit) {
+        // Only the first page is cached, so only it has to come from the primary after a write
+        return cursor == null
+                ? recentWrites.load(CommentCacheEvictor.COMMENTS_CACHE, CommentCacheEvictor.taskPrefix(taskId),
+                        () -> loadComments(taskId, null, limit))
+                : loadComments(taskId, cursor, limit);
+    }
+
+    // Also the cache key, so every limit that yields the same page shares one entry
+    public static int pageSize(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+    }
+
+    private CommentPageDto loadComments(Long taskId, String cursor, int limit) {
+        int pageSize = pageSize(limit);
+        CommentCursor after = cursor != null ? CommentCursor.decode(cursor) : null;
+        Limit fetchLimit = Limit.of(pageSize + 1);
+
+        int commentCount = taskRepository.findCommentCountById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
+
+        List<CommentResponseDto> comments = after == null
+                ? commentRepository.findNewestByTaskId(taskId, fetchLimit)
+                : commentRepository.findOlderByTaskId(taskId, after.createdAt(), after.id(), fetchLimit);
+
+        List<CommentResponseDto> items = comments.size() > pageSize ? comments.subList(0, pageSize) : comments;
+
+        String nextCursor = comments.size() > pageSize
+                ? CommentCursor.after(items.get(items.size() - 1)).encode()
+                : null;
+
+        return new CommentPageDto(List.copyOf(items), nextCursor, commentCount);
+    }
+
+    @Transactional
+    public CommentResponseDto addComment(Long taskId, CommentRequestDto dto, Long userId) {
+        Task task = taskRepository.findById(taskId)
+                .filter(found -> !found.isArchived())
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
+
+        Comment comment = new Comment();
+        comment.setText(dto.text());
+        comment.setAuthor(userRepository.getReferenceById(userId));
+        comment.setTask(task);
+        Comment savedComment = commentRepository.save(comment);
+
+        // Read back through the projection, which also flushes the insert
+        CommentResponseDto responseDto = commentRepository.findResponseById(savedComment.getId()).orElseThrow();
+        commentCacheEvictor.evictTask(taskId);
+
+        log.info("Comment added: ID={} TaskID={} by UserID={}", responseDto.id(), taskId, userId);
+
+        notificationService.sendCommentEvent(task.getBoard().getId(),
+                new CommentEventDto(EventType.COMMENT_ADDED, taskId, responseDto));
+
+        return responseDto;
+    }
+
+    @Transactional
+    public void deleteComment(Long taskId, Long commentId, Long userId) {
+        CommentResponseDto responseDto = commentRepository.findResponseById(commentId)
+                .filter(found -> found.taskId().equals(taskId))
+                .orElseThrow(() -> new ResourceNotFoundException("Comment not found with id: " + commentId));
+        TaskOwnershipDto ownership = taskRepository.findOwnershipById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
+
+        commentRepository.deleteCommentById(commentId);
+        commentCacheEvictor.evictTask(taskId);
+
+        log.info("Comment deleted: ID={} TaskID={} by UserID={}", commentId, taskId, userId);
+
+        notificationService.sendCommentEvent(ownership.boardId(),
+                new CommentEventDto(EventType.COMMENT_DELETED, taskId, responseDto));
+    }
+}
@@ -1,32 +1,60 @@
 package com.example.taskflow.service;
 
+import com.example.taskflow.messaging.BoardEventCoalescer;
+import com.example.taskflow.messaging.EventBroadcaster;
+import com.example.taskflow.model.dto.DeadlineReminderDto;
 import com.example.taskflow.model.dto.TaskResponseDto;
+import com.example.taskflow.model.dto.event.CommentEventDto;
 import com.example.taskflow.model.dto.event.EventType;
 import com.example.taskflow.model.dto.event.NotificationDto;
+import com.example.taskflow.model.dto.event.TaskBatchEventDto;
 import com.example.taskflow.model.dto.event.TaskEventDto;
+import com.example.taskflow.model.entity.OutboxEvent;
+import com.example.taskflow.model.entity.OutboxEventType;
 import com.example.taskflow.model.entity.Task;
+import com.example.taskflow.repository.OutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationService {
-    private final SimpMessagingTemplate messagingTemplate;
+    private final EventBroadcaster eventBroadcaster;
+    private final BoardEventCoalescer boardEventCoalescer;
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    // Written to the outbox in the caller's transaction; OutboxRelay publishes it once that transaction commits
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void sendBoardUpdate(Long boardId, EventType eventType, TaskResponseDto taskDto, long seq) {
+        TaskEventDto event = new TaskEventDto(eventType, boardId, taskDto, seq);
+        enqueue(OutboxEventType.BOARD_UPDATE, boardId, null, event);
+    }
 
-    @Async
-    public void sendBoardUpdate(Long boardId, EventType eventType, TaskResponseDto taskDto) {
-        String destination = "/topic/board/" + boardId;
-        TaskEventDto event = new TaskEventDto(eventType, boardId, taskDto);
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void sendBoardBatch(Long boardId, List<TaskEventDto> events) {
+        if (events.isEmpty()) return;
+        enqueue(OutboxEventType.BOARD_BATCH, boardId, null, new TaskBatchEventDto(boardId, events));
+    }
 
-        log.info("Sending WebSocket event {} to {}", eventType, destination);
-        messagingTemplate.convertAndSend(destination, event);
+    // Comment deltas go to a per-task destination, so subscribers of a busy board are not woken by them
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void sendCommentEvent(Long boardId, CommentEventDto event) {
+        enqueue(OutboxEventType.TASK_COMMENT, boardId, "/topic/task/" + event.taskId() + "/comments", event);
     }
 
-    @Async
+    @Transactional(propagation = Propagation.MANDATORY)
     public void sendPrivateNotification(Task task) {
         if (task.getAssignee() == null) return;
 
@@ -39,23 +67,70 @@ public class NotificationService {
         );
 
         String destination = "/topic/user/" + email + "/notification";
-
-        log.info("Sending async assignment notification to thread: {}", Thread.currentThread().getName());
-        messagingTemplate.convertAndSend(destination, notification);
+        enqueue(OutboxEventType.USER_NOTIFICATION, task.getBoard().getId(), destination, notification);
     }
 
-    @Async
-    public void sendDeadlineWarning(Long taskId, Long boardId, String taskTitle, String userEmail) {
+    // Written in the reminder sweep's transaction, together with the record that the reminder was sent
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void sendDeadlineWarning(DeadlineReminderDto reminder) {
+        long hoursLeft = Math.max(1, Duration.between(LocalDateTime.now(), reminder.deadline()).toHours());
         NotificationDto notification = new NotificationDto(
-                "Warning! The deadline of a task" + taskTitle + " expires in 24 hours.",
-                taskId,
-                boardId,
+                "Warning! The deadline of a task " + reminder.title() + " expires in " + hoursLeft + " hours.",
+                reminder.taskId(),
+                reminder.boardId(),
                 "DEADLINE_WARNING"
         );
 
-        String destination = "/topic/user/" + userEmail + "/notifications";
+        String destination = "/topic/user/" + reminder.assigneeEmail() + "/notifications";
+        enqueue(OutboxEventType.USER_NOTIFICATION, reminder.boardId(), destination, notification);
+    }
+
+    /**
+     * Publishes committed outbox rows on the calling thread and returns once every event has been
+     * handed to the broadcaster, so a failure reaches the relay while it still holds the rows.
+     * Board events of the batch are coalesced per board and sent after the loop; task comment
+     * deltas and user notifications are sent to their destination as stored.
+     */
+    public void publish(List<OutboxEvent> batch) {
+        List<TaskEventDto> boardEvents = new ArrayList<>();
+        for (OutboxEvent outboxEvent : batch) {
+            try {
+                switch (outboxEvent.getEventType()) {
+                    case BOARD_UPDATE -> {
+                        TaskEventDto event = objectMapper.readValue(outboxEvent.getPayload(), TaskEventDto.class);
+                        log.debug("Relaying WebSocket event {} for board {}", event.type(), event.boardId());
+                        boardEvents.add(event);
+                    }
+                    case BOARD_BATCH -> {
+                        TaskBatchEventDto events = objectMapper.readValue(outboxEvent.getPayload(), TaskBatchEventDto.class);
+                        log.debug("Relaying WebSocket batch of {} events for board {}", events.events().size(), events.boardId());
+                        boardEvents.addAll(events.events());
+                    }
+                    case TASK_COMMENT -> {
+                        CommentEventDto event = objectMapper.readValue(outboxEvent.getPayload(), CommentEventDto.class);
+                        log.debug("Relaying comment event {} for task {}", event.type(), event.taskId());
+                        eventBroadcaster.broadcast(outboxEvent.getDestination(), event);
+                    }
+                    case USER_NOTIFICATION -> {
+                        NotificationDto notification = objectMapper.readValue(outboxEvent.getPayload(), NotificationDto.class);
+                        log.info("Sending notification {} to {}", notification.type(), outboxEvent.getDestination());
+                        eventBroadcaster.broadcast(outboxEvent.getDestination(), notification);
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                // A row that cannot be decoded would block the outbox forever, so it is dropped
+                log.error("Discarding unreadable outbox event {} of type {}",
+                        outboxEvent.getId(), outboxEvent.getEventType(), e);
+            }
+        }
+        boardEventCoalescer.publish(boardEvents);
+    }
 
-        log.info("Sending async deadline warning in thread: {}", Thread.currentThread().getName());
-        messagingTemplate.convertAndSend(destination, notification);
+    private void enqueue(OutboxEventType type, Long boardId, String destination, Object payload) {
+        try {
+            outboxRepository.save(new OutboxEvent(type, boardId, destination, objectMapper.writeValueAsString(payload)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + type + " event for board " + boardId, e);
+        }
     }
 }
@@ -0,0 +1,32 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last hit on a search page, as an opaque URL-safe token of the form
+ * {@code <rank>|<id>}. The rank is the float4 Postgres returned, which prints and parses back
+ * to the same value, so the next page continues exactly after the previous one.
+ */
+record SearchCursor(float rank, Long id) {
+
+    String encode() {
+        String raw = rank + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static SearchCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 2) {
+                throw new BadRequestException("Invalid cursor: " + token);
+            }
+            return new SearchCursor(Float.parseFloat(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.exception.BadRequestException;
+import com.example.taskflow.model.dto.TaskResponseDto;
+import com.example.taskflow.model.dto.TaskSort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last task on a page. Encoded as an opaque URL-safe token of the form
+ * {@code <sort>|<deadline or empty>|<id>}.
+ */
+record TaskCursor(TaskSort sort, LocalDateTime deadline, Long id) {
+
+    static TaskCursor after(TaskSort sort, TaskResponseDto task) {
+        return new TaskCursor(sort, sort == TaskSort.DEADLINE ? task.deadline() : null, task.id());
+    }
+
+    String encode() {
+        String raw = sort.name() + "|" + (deadline != null ? deadline.toString() : "") + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static TaskCursor decode(String token, TaskSort expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3 || !expectedSort.name().equals(parts[0])) {
+                throw new BadRequestException("Cursor does not match sort order " + expectedSort);
+            }
+            LocalDateTime deadline = parts[1].isEmpty() ? null : LocalDateTime.parse(parts[1]);
+            return new TaskCursor(expectedSort, deadline, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor: " + token);
+        }
+    }
+}
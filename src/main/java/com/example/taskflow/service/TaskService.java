@@ -1,10 +1,25 @@
 package com.example.taskflow.service;
 
+import com.example.taskflow.cache.BoardCacheEvictor;
+import com.example.taskflow.datasource.RecentWrites;
+import com.example.taskflow.exception.BadRequestException;
+import com.example.taskflow.exception.PreconditionFailedException;
 import com.example.taskflow.exception.ResourceNotFoundException;
 import com.example.taskflow.model.dto.AssigneeDto;
+import com.example.taskflow.model.dto.BulkOperationType;
+import com.example.taskflow.model.dto.BulkTaskOperationDto;
+import com.example.taskflow.model.dto.BulkTaskRequestDto;
+import com.example.taskflow.model.dto.TaskChangeDto;
+import com.example.taskflow.model.dto.TaskChangesDto;
+import com.example.taskflow.model.dto.TaskListDto;
+import com.example.taskflow.model.dto.TaskPageDto;
 import com.example.taskflow.model.dto.TaskRequestDto;
 import com.example.taskflow.model.dto.TaskResponseDto;
+import com.example.taskflow.model.dto.TaskSearchPageDto;
+import com.example.taskflow.model.dto.TaskSearchResultDto;
+import com.example.taskflow.model.dto.TaskSort;
 import com.example.taskflow.model.dto.event.EventType;
+import com.example.taskflow.model.dto.event.TaskEventDto;
 import com.example.taskflow.model.entity.Board;
 import com.example.taskflow.model.entity.Task;
 import com.example.taskflow.model.entity.TaskPriority;
@@ -12,39 +27,148 @@ import com.example.taskflow.model.entity.User;
 import com.example.taskflow.repository.BoardRepository;
 import com.example.taskflow.repository.TaskRepository;
 import com.example.taskflow.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+// Every public operation is timed as taskflow.tasks, tagged by method and exception; board ids stay out of the tags
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Timed(value = "taskflow.tasks", description = "TaskService operations")
 public class TaskService {
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_BULK_OPERATIONS = 500;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_CHANGES_PAGE_SIZE = 1000;
+
     private final TaskRepository taskRepository;
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final BoardCacheEvictor boardCacheEvictor;
+    private final RecentWrites recentWrites;
+
+    /**
+     * The board's tasks with the change sequence they were read at. Both come from one snapshot
+     * and are cached together, so the version used as ETag always describes exactly this list,
+     * wherever the copy is served from.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    @Cacheable(value = BoardCacheEvictor.TASKS_CACHE,
+            key = "#boardId + ':' + (#priority != null ? #priority.name() : 'null') + ':' + (#assigneeId != null ? #assigneeId : 'null')")
+    public TaskListDto getTasksByBoard(Long boardId, Long userId, TaskPriority priority, Long assigneeId) {
+        log.debug("Fetching tasks for board {} by user {}", boardId, userId);
+
+        return recentWrites.load(BoardCacheEvictor.TASKS_CACHE, BoardCacheEvictor.boardPrefix(boardId),
+                () -> new TaskListDto(
+                        boardRepository.findChangeSeqById(boardId)
+                                .orElseThrow(() -> new ResourceNotFoundException("Board not found with id: " + boardId)),
+                        List.copyOf(taskRepository.findByBoardIdWithFilters(boardId, priority, assigneeId))));
+    }
 
     @Transactional(readOnly = true)
-    @Cacheable(value = "tasks", key = "{#boardId, #priority != null ? #priority.name() : 'null', #assigneeId != null ? #assigneeId : 'null'}")
-    public List<TaskResponseDto> getTasksByBoard(Long boardId, Long userId, TaskPriority priority, Long assigneeId) {
-        log.debug("Fetching tasks for board {} by user {}", boardId, userId);
+    public TaskPageDto getTaskPage(Long boardId, TaskPriority priority, Long assigneeId,
+                                   TaskSort sort, String cursor, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        TaskCursor after = cursor != null ? TaskCursor.decode(cursor, sort) : null;
+        Limit fetchLimit = Limit.of(pageSize + 1);
+
+        List<TaskResponseDto> tasks = switch (sort) {
+            case ID -> taskRepository.findPageByBoardIdOrderById(
+                    boardId, priority, assigneeId, after != null ? after.id() : null, fetchLimit);
+            case DEADLINE -> taskRepository.findPageByBoardIdOrderByDeadline(
+                    boardId, priority, assigneeId,
+                    after != null ? after.deadline() : null,
+                    after != null ? after.id() : null,
+                    fetchLimit);
+        };
+
+        List<TaskResponseDto> items = tasks.size() > pageSize ? tasks.subList(0, pageSize) : tasks;
+
+        String nextCursor = tasks.size() > pageSize
+                ? TaskCursor.after(sort, items.get(items.size() - 1)).encode()
+                : null;
+
+        return new TaskPageDto(items, nextCursor);
+    }
 
-        return taskRepository.findByBoardIdWithFilters(boardId, priority, assigneeId).stream()
-                .map(this::mapToResponse)
+    /**
+     * Ranked full-text search across the boards the user owns, optionally narrowed to one board.
+     * The query accepts web-search syntax: quoted phrases, {@code OR} and {@code -excluded} words.
+     */
+    @Transactional(readOnly = true)
+    public TaskSearchPageDto searchTasks(Long userId, String query, Long boardId, String cursor, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query is mandatory");
+        }
+        int pageSize = Math.min(Math.max(limit, 1), MAX_SEARCH_PAGE_SIZE);
+        SearchCursor after = cursor != null ? SearchCursor.decode(cursor) : null;
+
+        List<TaskSearchResultDto> hits = taskRepository.search(userId, query, boardId,
+                        after != null ? after.rank() : null,
+                        after != null ? after.id() : null,
+                        pageSize + 1)
+                .stream()
+                .map(hit -> new TaskSearchResultDto(hit.getId(), hit.getTitle(), hit.getHeadline(), hit.getStatus(),
+                        hit.getPriority(), hit.getBoardId(), hit.getDeadline(), hit.getRank()))
                 .toList();
+
+        List<TaskSearchResultDto> items = hits.size() > pageSize ? hits.subList(0, pageSize) : hits;
+
+        String nextCursor = hits.size() > pageSize
+                ? new SearchCursor(items.get(items.size() - 1).rank(), items.get(items.size() - 1).id()).encode()
+                : null;
+
+        return new TaskSearchPageDto(items, nextCursor);
+    }
+
+    /**
+     * Tasks of the board written after the given change sequence number, oldest change first, for
+     * clients catching up after a reconnect. Numbers follow commit order, so a replica that is
+     * behind returns a prefix of the changes and the returned seq never skips one.
+     */
+    @Transactional(readOnly = true)
+    public TaskChangesDto getChangesSince(Long boardId, long since, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_CHANGES_PAGE_SIZE);
+
+        List<TaskChangeDto> changes = taskRepository.findChangedSince(boardId, since, Limit.of(pageSize + 1));
+
+        boolean hasMore = changes.size() > pageSize;
+        List<TaskChangeDto> items = hasMore ? changes.subList(0, pageSize) : changes;
+        long seq = items.isEmpty() ? since : items.get(items.size() - 1).seq();
+
+        return new TaskChangesDto(items, seq, hasMore);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamTasksByBoard(Long boardId, TaskPriority priority, Long assigneeId,
+                                   Consumer<TaskResponseDto> consumer) {
+        try (Stream<TaskResponseDto> tasks = taskRepository.streamByBoardIdWithFilters(boardId, priority, assigneeId)) {
+            tasks.forEach(consumer);
+        }
     }
 
     @Transactional
-    @CacheEvict(value = "tasks", allEntries = true)
     public TaskResponseDto createTask(TaskRequestDto dto, Long userId) {
         Board board = boardRepository.findById(dto.boardId())
                 .orElseThrow(() -> new ResourceNotFoundException("Board not found with id: " + dto.boardId()));
+        long seq = reserveChangeSeqs(board.getId(), 1);
 
         Task task = new Task();
         task.setTitle(dto.title());
@@ -53,23 +177,31 @@ public class TaskService {
         task.setPriority(dto.priority());
         task.setDeadline(dto.deadline());
         task.setBoard(board);
+        task.setChangeSeq(seq);
 
         Task savedTask = taskRepository.save(task);
         TaskResponseDto responseDto = mapToResponse(savedTask);
+        boardCacheEvictor.evictBoard(board.getId());
 
         log.info("Task created: ID={} Title='{}' BoardID={} by UserID={}",
                 savedTask.getId(), savedTask.getTitle(), board.getId(), userId);
 
-        notificationService.sendBoardUpdate(board.getId(), EventType.TASK_CREATED, responseDto);
+        notificationService.sendBoardUpdate(board.getId(), EventType.TASK_CREATED, responseDto, seq);
 
         return responseDto;
     }
 
+    /**
+     * Replaces the task's fields. With {@code expectedVersion} set the write only goes ahead if
+     * the task is still at that version; a write that slips in after the task is loaded is caught
+     * by the version check when the update is flushed.
+     */
     @Transactional
-    @CacheEvict(value = "tasks", allEntries = true)
-    public TaskResponseDto updateTask(Long taskId, TaskRequestDto dto, Long userId) {
+    public TaskResponseDto updateTask(Long taskId, TaskRequestDto dto, Long userId, Long expectedVersion) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
+        checkVersion(task, expectedVersion);
+        long seq = reserveChangeSeqs(task.getBoard().getId(), 1);
 
         if (task.getStatus() != dto.status()) {
             log.info("Task status changed: ID={} From={} To={} by UserID={}",
@@ -81,20 +213,23 @@ public class TaskService {
         task.setStatus(dto.status());
         task.setPriority(dto.priority());
         task.setDeadline(dto.deadline());
+        task.setChangeSeq(seq);
 
-        Task savedTask = taskRepository.save(task);
+        Task savedTask = taskRepository.saveAndFlush(task);
         TaskResponseDto responseDto = mapToResponse(savedTask);
+        boardCacheEvictor.evictBoard(task.getBoard().getId());
 
-        notificationService.sendBoardUpdate(task.getBoard().getId(), EventType.TASK_UPDATED, responseDto);
+        notificationService.sendBoardUpdate(task.getBoard().getId(), EventType.TASK_UPDATED, responseDto, seq);
 
         return responseDto;
     }
 
     @Transactional
-    @CacheEvict(value = "tasks", allEntries = true)
-    public TaskResponseDto patchUpdateTask(Long taskId, TaskRequestDto dto, Long userId) {
+    public TaskResponseDto patchUpdateTask(Long taskId, TaskRequestDto dto, Long userId, Long expectedVersion) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
+        checkVersion(task, expectedVersion);
+        long seq = reserveChangeSeqs(task.getBoard().getId(), 1);
 
         if (dto.title() != null) task.setTitle(dto.title());
         if (dto.description() != null) task.setDescription(dto.description());
@@ -109,33 +244,38 @@ public class TaskService {
 
         if (dto.priority() != null) task.setPriority(dto.priority());
         if (dto.deadline() != null) task.setDeadline(dto.deadline());
+        task.setChangeSeq(seq);
 
-        Task savedTask = taskRepository.save(task);
+        Task savedTask = taskRepository.saveAndFlush(task);
         TaskResponseDto responseDto = mapToResponse(savedTask);
+        boardCacheEvictor.evictBoard(task.getBoard().getId());
 
-        notificationService.sendBoardUpdate(task.getBoard().getId(), EventType.TASK_UPDATED, responseDto);
+        notificationService.sendBoardUpdate(task.getBoard().getId(), EventType.TASK_UPDATED, responseDto, seq);
 
         return responseDto;
     }
 
     @Transactional
-    @CacheEvict(value = "tasks", allEntries = true)
     public void deleteTask(Long taskId, Long userId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
+        long seq = reserveChangeSeqs(task.getBoard().getId(), 1);
 
         task.setArchived(true);
-        Task savedTask = taskRepository.save(task);
+        task.setChangeSeq(seq);
+        Task savedTask = taskRepository.saveAndFlush(task);
+        boardCacheEvictor.evictBoard(task.getBoard().getId());
 
         log.info("Task archived: ID={} by UserID={}", taskId, userId);
 
-        notificationService.sendBoardUpdate(task.getBoard().getId(), EventType.TASK_DELETED, mapToResponse(savedTask));
+        notificationService.sendBoardUpdate(task.getBoard().getId(), EventType.TASK_DELETED, mapToResponse(savedTask), seq);
     }
 
     @Transactional
     public TaskResponseDto assignTask(Long taskId, Long assigneeId, Long userId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
+        long seq = reserveChangeSeqs(task.getBoard().getId(), 1);
 
         if (assigneeId != null) {
             User assignee = userRepository.findById(assigneeId)
@@ -147,16 +287,152 @@ public class TaskService {
             task.setAssignee(null);
             log.info("Task unassigned: ID={} by OwnerID={}", taskId, userId);
         }
+        task.setChangeSeq(seq);
 
-        Task savedTask = taskRepository.save(task);
+        Task savedTask = taskRepository.saveAndFlush(task);
         TaskResponseDto responseDto = mapToResponse(savedTask);
+        boardCacheEvictor.evictBoard(task.getBoard().getId());
 
-        notificationService.sendBoardUpdate(task.getBoard().getId(), EventType.TASK_UPDATED, responseDto);
+        notificationService.sendBoardUpdate(task.getBoard().getId(), EventType.TASK_UPDATED, responseDto, seq);
 
         return responseDto;
     }
 
-    private TaskResponseDto mapToResponse(Task task) {
+    /**
+     * Applies every operation in one transaction against a single board. Referenced tasks are
+     * loaded with one query, new tasks take ids from the pooled sequence so inserts batch, and
+     * the board's cache and subscribers are notified once for the whole request.
+     */
+    @Transactional
+    public List<TaskResponseDto> applyBulk(BulkTaskRequestDto request, Long userId) {
+        List<BulkTaskOperationDto> operations = request.operations();
+        if (operations.size() > MAX_BULK_OPERATIONS) {
+            throw new BadRequestException("A bulk request accepts at most " + MAX_BULK_OPERATIONS + " operations");
+        }
+
+        Long boardId = request.boardId();
+        Map<Long, Task> existing = loadBulkTargets(boardId, operations);
+        long firstSeq = reserveChangeSeqs(boardId, operations.size()) - operations.size() + 1;
+        Board board = boardRepository.getReferenceById(boardId);
+
+        List<Task> created = new ArrayList<>();
+        List<Task> touched = new ArrayList<>(operations.size());
+        List<EventType> eventTypes = new ArrayList<>(operations.size());
+
+        for (BulkTaskOperationDto op : operations) {
+            switch (op.type()) {
+                case CREATE -> {
+                    if (op.title() == null || op.title().isBlank() || op.status() == null || op.priority() == null) {
+                        throw new BadRequestException("CREATE requires title, status and priority");
+                    }
+                    Task task = new Task();
+                    task.setTitle(op.title());
+                    task.setDescription(op.description());
+                    task.setStatus(op.status());
+                    task.setPriority(op.priority());
+                    task.setDeadline(op.deadline());
+                    task.setBoard(board);
+                    created.add(task);
+                    touched.add(task);
+                    eventTypes.add(EventType.TASK_CREATED);
+                }
+                case UPDATE -> {
+                    Task task = existing.get(op.taskId());
+                    if (op.title() != null) task.setTitle(op.title());
+                    if (op.description() != null) task.setDescription(op.description());
+                    if (op.status() != null) task.setStatus(op.status());
+                    if (op.priority() != null) task.setPriority(op.priority());
+                    if (op.deadline() != null) task.setDeadline(op.deadline());
+                    touched.add(task);
+                    eventTypes.add(EventType.TASK_UPDATED);
+                }
+                case MOVE -> {
+                    if (op.status() == null) {
+                        throw new BadRequestException("MOVE requires a status");
+                    }
+                    Task task = existing.get(op.taskId());
+                    task.setStatus(op.status());
+                    touched.add(task);
+                    eventTypes.add(EventType.TASK_UPDATED);
+                }
+                case ARCHIVE -> {
+                    Task task = existing.get(op.taskId());
+                    task.setArchived(true);
+                    touched.add(task);
+                    eventTypes.add(EventType.TASK_DELETED);
+                }
+            }
+        }
+
+        // A task touched by several operations ends up with the number of the last one
+        for (int i = 0; i < touched.size(); i++) {
+            touched.get(i).setChangeSeq(firstSeq + i);
+        }
+        taskRepository.saveAll(created);
+        // Flushed here so the responses and events carry the versions the updates were written with
+        taskRepository.flush();
+
+        List<TaskResponseDto> responses = new ArrayList<>(touched.size());
+        List<TaskEventDto> events = new ArrayList<>(touched.size());
+        for (int i = 0; i < touched.size(); i++) {
+            TaskResponseDto responseDto = mapToResponse(touched.get(i));
+            responses.add(responseDto);
+            events.add(new TaskEventDto(eventTypes.get(i), boardId, responseDto, firstSeq + i));
+        }
+
+        boardCacheEvictor.evictBoard(boardId);
+        notificationService.sendBoardBatch(boardId, events);
+
+        log.info("Bulk request applied: BoardID={} Operations={} Created={} by UserID={}",
+                boardId, operations.size(), created.size(), userId);
+
+        return responses;
+    }
+
+    /**
+     * Reserves the next {@code count} numbers of the board's change sequence and returns the last
+     * one. This locks the board row until commit, so it is called before any entity is changed:
+     * the query flushes pending changes, and taking the board lock first in every write keeps two
+     * writers of the same board from locking rows in opposite order.
+     */
+    private long reserveChangeSeqs(Long boardId, int count) {
+        return boardRepository.reserveChangeSeq(boardId, count)
+                .orElseThrow(() -> new ResourceNotFoundException("Board not found with id: " + boardId));
+    }
+
+    private static void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && task.getVersion() != expectedVersion) {
+            throw new PreconditionFailedException("Task " + task.getId() + " is at version " + task.getVersion()
+                    + ", expected " + expectedVersion);
+        }
+    }
+
+    private Map<Long, Task> loadBulkTargets(Long boardId, List<BulkTaskOperationDto> operations) {
+        Set<Long> ids = new HashSet<>();
+        for (BulkTaskOperationDto op : operations) {
+            if (op.type() == BulkOperationType.CREATE) continue;
+            if (op.taskId() == null) {
+                throw new BadRequestException(op.type() + " requires a taskId");
+            }
+            ids.add(op.taskId());
+        }
+        if (ids.isEmpty()) return Map.of();
+
+        Map<Long, Task> tasks = new HashMap<>();
+        for (Task task : taskRepository.findAllByBoardIdAndIdIn(boardId, ids)) {
+            tasks.put(task.getId(), task);
+        }
+
+        if (tasks.size() != ids.size()) {
+            Set<Long> missing = new TreeSet<>(ids);
+            missing.removeAll(tasks.keySet());
+            throw new ResourceNotFoundException("Tasks not found on board " + boardId + ": " + missing);
+        }
+        return tasks;
+    }
+
+    // Package-private for the mapping benchmark in src/jmh/java
+    static TaskResponseDto mapToResponse(Task task) {
         AssigneeDto assigneeDto = null;
         if (task.getAssignee() != null) {
             assigneeDto = new AssigneeDto(
@@ -174,7 +450,8 @@ public class TaskService {
                 task.getBoard().getId(),
                 task.getDeadline(),
                 task.isArchived(),
-                assigneeDto
+                assigneeDto,
+                task.getVersion()
         );
     }
 }
\ No newline at end of file
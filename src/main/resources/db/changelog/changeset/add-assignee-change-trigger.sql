@@ -0,0 +1,39 @@
+--liquibase formatted sql
+
+--changeset taskflow:add-assignee-change-trigger splitStatements:false
+-- Task lists and deltas carry the assignee's username and email, so renaming a user changes every
+-- task assigned to them. Like TaskService, each board reserves one number per task, and board rows
+-- are locked first, in id order.
+CREATE FUNCTION users_touch_assigned_tasks() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    PERFORM 1 FROM boards
+    WHERE id IN (SELECT board_id FROM tasks WHERE assignee_id = NEW.id)
+    ORDER BY id
+    FOR UPDATE;
+
+    WITH assigned AS (
+        SELECT id, board_id,
+               row_number() OVER (PARTITION BY board_id ORDER BY id) AS n,
+               count(*) OVER (PARTITION BY board_id) AS total
+        FROM tasks
+        WHERE assignee_id = NEW.id
+    ), reserved AS (
+        UPDATE boards b SET change_seq = b.change_seq + a.total
+        FROM (SELECT DISTINCT board_id, total FROM assigned) a
+        WHERE b.id = a.board_id
+        RETURNING b.id, b.change_seq
+    )
+    UPDATE tasks t SET change_seq = r.change_seq - a.total + a.n
+    FROM assigned a
+    JOIN reserved r ON r.id = a.board_id
+    WHERE t.id = a.id;
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER users_touch_assigned_tasks
+    AFTER UPDATE OF username, email ON users
+    FOR EACH ROW
+    WHEN (OLD.username IS DISTINCT FROM NEW.username OR OLD.email IS DISTINCT FROM NEW.email)
+    EXECUTE FUNCTION users_touch_assigned_tasks();
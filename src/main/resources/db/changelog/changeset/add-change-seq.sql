@@ -0,0 +1,12 @@
+-- Per-board change sequence: boards hold the last number handed out, tasks the number of their latest write
+ALTER TABLE boards ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tasks ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+
+UPDATE tasks t SET change_seq = n.seq
+FROM (SELECT id, row_number() OVER (PARTITION BY board_id ORDER BY id) AS seq FROM tasks) n
+WHERE n.id = t.id;
+
+UPDATE boards b SET change_seq = coalesce((SELECT max(t.change_seq) FROM tasks t WHERE t.board_id = b.id), 0);
+
+-- Covers archived tasks too, since archiving is a change clients have to see
+CREATE INDEX idx_tasks_board_change_seq ON tasks(board_id, change_seq);
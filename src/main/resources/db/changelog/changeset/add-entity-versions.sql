@@ -0,0 +1,6 @@
+-- Optimistic locking versions for tasks and boards
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE boards ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- Bumped whenever one of the user's boards is created, renamed or deleted; the ETag of the board list
+ALTER TABLE users ADD COLUMN boards_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,3 @@
+CREATE INDEX idx_tasks_board_active ON tasks(board_id, id) WHERE is_archived = false;
+CREATE INDEX idx_tasks_board_priority_active ON tasks(board_id, priority, id) WHERE is_archived = false;
+CREATE INDEX idx_tasks_deadline_pending ON tasks(deadline) WHERE status <> 'DONE' AND is_archived = false;
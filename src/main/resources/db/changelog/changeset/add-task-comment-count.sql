@@ -0,0 +1,33 @@
+--liquibase formatted sql
+
+--changeset taskflow:add-task-comment-count splitStatements:false
+-- Number of comments on a task, kept by a trigger so reading it never touches the comments table
+ALTER TABLE tasks ADD COLUMN comment_count INT NOT NULL DEFAULT 0;
+
+UPDATE tasks t SET comment_count = c.total
+FROM (SELECT task_id, count(*) AS total FROM comments GROUP BY task_id) c
+WHERE c.task_id = t.id;
+
+CREATE FUNCTION comments_refresh_task_comment_count() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' AND NEW.task_id = OLD.task_id THEN
+        RETURN NULL;
+    END IF;
+    IF TG_OP <> 'INSERT' THEN
+        UPDATE tasks SET comment_count = comment_count - 1 WHERE id = OLD.task_id;
+    END IF;
+    IF TG_OP <> 'DELETE' THEN
+        UPDATE tasks SET comment_count = comment_count + 1 WHERE id = NEW.task_id;
+    END IF;
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER comments_task_comment_count
+    AFTER INSERT OR UPDATE OF task_id OR DELETE ON comments
+    FOR EACH ROW EXECUTE FUNCTION comments_refresh_task_comment_count();
+
+-- A task's thread newest first is a backward range scan; id breaks ties between equal timestamps
+DROP INDEX idx_comments_task_id;
+CREATE INDEX idx_comments_task_created ON comments(task_id, created_at, id);
@@ -0,0 +1,50 @@
+--liquibase formatted sql
+
+--changeset taskflow:add-task-search-vector splitStatements:false
+-- Title, description and comment text of a task as one weighted document. The 'simple'
+-- configuration is used because task text mixes Ukrainian and English and Postgres ships no
+-- Ukrainian stemmer; words are matched as typed, lower-cased.
+CREATE FUNCTION task_search_vector(p_task_id BIGINT, p_title TEXT, p_description TEXT)
+RETURNS tsvector
+LANGUAGE sql STABLE AS $$
+    SELECT setweight(to_tsvector('simple', coalesce(p_title, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce(p_description, '')), 'B')
+        || setweight(to_tsvector('simple', coalesce(
+               (SELECT string_agg(c.text, ' ') FROM comments c WHERE c.task_id = p_task_id), '')), 'C')
+$$;
+
+ALTER TABLE tasks ADD COLUMN search_vector tsvector;
+
+UPDATE tasks SET search_vector = task_search_vector(id, title, description);
+
+CREATE FUNCTION tasks_refresh_search_vector() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    NEW.search_vector := task_search_vector(NEW.id, NEW.title, NEW.description);
+    RETURN NEW;
+END
+$$;
+
+CREATE TRIGGER tasks_search_vector
+    BEFORE INSERT OR UPDATE OF title, description ON tasks
+    FOR EACH ROW EXECUTE FUNCTION tasks_refresh_search_vector();
+
+-- Comment changes only rebuild the vector of the task they belong to
+CREATE FUNCTION comments_refresh_task_search_vector() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP <> 'INSERT' THEN
+        UPDATE tasks SET search_vector = task_search_vector(id, title, description) WHERE id = OLD.task_id;
+    END IF;
+    IF TG_OP = 'INSERT' OR (TG_OP = 'UPDATE' AND NEW.task_id <> OLD.task_id) THEN
+        UPDATE tasks SET search_vector = task_search_vector(id, title, description) WHERE id = NEW.task_id;
+    END IF;
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER comments_task_search_vector
+    AFTER INSERT OR UPDATE OF text, task_id OR DELETE ON comments
+    FOR EACH ROW EXECUTE FUNCTION comments_refresh_task_search_vector();
+
+CREATE INDEX idx_tasks_search ON tasks USING GIN (search_vector) WHERE is_archived = false;
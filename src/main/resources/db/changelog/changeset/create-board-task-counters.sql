@@ -0,0 +1,54 @@
+--liquibase formatted sql
+
+--changeset taskflow:create-board-task-counters splitStatements:false
+-- Active task counts of a board per status, priority and assignee combination, kept by a trigger
+-- on tasks. A board has at most statuses x priorities x (assignees + 1) rows, so summing them
+-- does not grow with the number of tasks.
+CREATE TABLE board_task_counters (
+    board_id BIGINT NOT NULL REFERENCES boards(id) ON DELETE CASCADE,
+    status VARCHAR(50) NOT NULL,
+    priority VARCHAR(50) NOT NULL,
+    assignee_id BIGINT,
+    task_count INT NOT NULL,
+    CONSTRAINT uq_board_task_counters UNIQUE NULLS NOT DISTINCT (board_id, status, priority, assignee_id)
+);
+
+INSERT INTO board_task_counters (board_id, status, priority, assignee_id, task_count)
+SELECT board_id, status, priority, assignee_id, count(*)
+FROM tasks
+WHERE is_archived = false
+GROUP BY board_id, status, priority, assignee_id;
+
+CREATE FUNCTION tasks_refresh_board_task_counters() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'UPDATE'
+            AND NEW.is_archived = OLD.is_archived
+            AND NEW.board_id = OLD.board_id
+            AND NEW.status = OLD.status
+            AND NEW.priority = OLD.priority
+            AND NEW.assignee_id IS NOT DISTINCT FROM OLD.assignee_id THEN
+        RETURN NULL;
+    END IF;
+    -- Decrements never insert, so tasks removed by a board delete cannot recreate its counters
+    IF TG_OP <> 'INSERT' AND NOT OLD.is_archived THEN
+        UPDATE board_task_counters SET task_count = task_count - 1
+        WHERE board_id = OLD.board_id AND status = OLD.status AND priority = OLD.priority
+          AND assignee_id IS NOT DISTINCT FROM OLD.assignee_id;
+    END IF;
+    IF TG_OP <> 'DELETE' AND NOT NEW.is_archived THEN
+        INSERT INTO board_task_counters (board_id, status, priority, assignee_id, task_count)
+        VALUES (NEW.board_id, NEW.status, NEW.priority, NEW.assignee_id, 1)
+        ON CONFLICT ON CONSTRAINT uq_board_task_counters
+        DO UPDATE SET task_count = board_task_counters.task_count + 1;
+    END IF;
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER tasks_board_task_counters
+    AFTER INSERT OR UPDATE OF is_archived, board_id, status, priority, assignee_id OR DELETE ON tasks
+    FOR EACH ROW EXECUTE FUNCTION tasks_refresh_board_task_counters();
+
+-- Overdue and due-soon counts of one board are a range scan over its pending deadlines
+CREATE INDEX idx_tasks_board_deadline_pending ON tasks(board_id, deadline) WHERE status <> 'DONE' AND is_archived = false;
@@ -0,0 +1,8 @@
+CREATE TABLE task_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    event_type VARCHAR(30) NOT NULL,
+    board_id BIGINT NOT NULL,
+    destination VARCHAR(255),
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
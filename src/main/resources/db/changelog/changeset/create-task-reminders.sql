@@ -0,0 +1,5 @@
+CREATE TABLE task_reminders (
+    task_id BIGINT PRIMARY KEY REFERENCES tasks(id) ON DELETE CASCADE,
+    deadline TIMESTAMP NOT NULL,
+    sent_at TIMESTAMP NOT NULL
+);
@@ -0,0 +1,17 @@
+--liquibase formatted sql
+
+--changeset taskflow:guard-task-search-vector-trigger
+-- Hibernate writes every column on update, so UPDATE OF title, description fired for status,
+-- assignment and bulk changes too and re-aggregated all comments of the task. The update
+-- trigger now only fires when the text actually changed; WHEN cannot see OLD on insert, hence two triggers.
+DROP TRIGGER tasks_search_vector ON tasks;
+
+CREATE TRIGGER tasks_search_vector
+    BEFORE INSERT ON tasks
+    FOR EACH ROW EXECUTE FUNCTION tasks_refresh_search_vector();
+
+CREATE TRIGGER tasks_search_vector_update
+    BEFORE UPDATE OF title, description ON tasks
+    FOR EACH ROW
+    WHEN (OLD.title IS DISTINCT FROM NEW.title OR OLD.description IS DISTINCT FROM NEW.description)
+    EXECUTE FUNCTION tasks_refresh_search_vector();
@@ -0,0 +1,2 @@
+-- Outbox ids are drawn one per insert again, so the relay's id order is insert order on every node
+ALTER SEQUENCE task_outbox_id_seq INCREMENT BY 1;
@@ -0,0 +1,15 @@
+-- Hibernate reserves ids in blocks of 50 ending at nextval, so every sequence steps by 50.
+-- setval never moves a sequence backwards: ids of deleted rows must not be handed out again.
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+SELECT setval('users_id_seq', GREATEST((SELECT COALESCE(MAX(id), 1) FROM users), (SELECT last_value FROM users_id_seq)));
+
+ALTER SEQUENCE boards_id_seq INCREMENT BY 50;
+SELECT setval('boards_id_seq', GREATEST((SELECT COALESCE(MAX(id), 1) FROM boards), (SELECT last_value FROM boards_id_seq)));
+
+ALTER SEQUENCE comments_id_seq INCREMENT BY 50;
+SELECT setval('comments_id_seq', GREATEST((SELECT COALESCE(MAX(id), 1) FROM comments), (SELECT last_value FROM comments_id_seq)));
+
+ALTER SEQUENCE task_outbox_id_seq INCREMENT BY 50;
+SELECT setval('task_outbox_id_seq', GREATEST((SELECT COALESCE(MAX(id), 1) FROM task_outbox), (SELECT last_value FROM task_outbox_id_seq)));
+
+SELECT setval('tasks_id_seq', GREATEST((SELECT COALESCE(MAX(id), 1) FROM tasks), (SELECT last_value FROM tasks_id_seq)));
@@ -0,0 +1,105 @@
+package com.example.taskflow;
+
+import com.example.taskflow.model.dto.BoardRequestDto;
+import com.example.taskflow.model.dto.TaskRequestDto;
+import com.example.taskflow.model.entity.TaskPriority;
+import com.example.taskflow.model.entity.TaskStatus;
+import com.example.taskflow.model.entity.User;
+import com.example.taskflow.repository.UserRepository;
+import com.example.taskflow.security.BoardSecurity;
+import com.example.taskflow.service.BoardService;
+import com.example.taskflow.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BoardSecurityQueryTest extends AbstractIntegrationTest {
+    @Autowired
+    private BoardSecurity boardSecurity;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Authentication owner;
+    private Authentication stranger;
+    private Long boardId;
+    private Long taskId;
+
+    @BeforeEach
+    void setUpBoard() {
+        User alina = userRepository.findById(1L).orElseThrow();
+        User mark = userRepository.findById(2L).orElseThrow();
+        owner = new UsernamePasswordAuthenticationToken(alina, null, alina.getAuthorities());
+        stranger = new UsernamePasswordAuthenticationToken(mark, null, mark.getAuthorities());
+
+        boardId = boardService.createBoard(new BoardRequestDto("Security board"), alina).id();
+        taskId = taskService.createTask(new TaskRequestDto(
+                "Guarded", null, TaskStatus.TODO, TaskPriority.LOW, boardId, null), alina.getId()).id();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void disableStatistics() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void taskCheckShouldCostOneQueryColdAndNoneWarm() {
+        assertThat(boardSecurity.isBoardOwnerOfTask(owner, taskId)).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        assertThat(boardSecurity.isBoardOwnerOfTask(owner, taskId)).isTrue();
+        assertThat(boardSecurity.isOwner(owner, boardId)).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void nonOwnerShouldBeDeniedFromWarmCache() {
+        boardSecurity.isBoardOwnerOfTask(owner, taskId);
+        statistics.clear();
+
+        assertThat(boardSecurity.isBoardOwnerOfTask(stranger, taskId)).isFalse();
+        assertThat(boardSecurity.isOwner(stranger, boardId)).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void deletedBoardShouldNoLongerAuthorize() {
+        assertThat(boardSecurity.isOwner(owner, boardId)).isTrue();
+        assertThat(boardSecurity.isBoardOwnerOfTask(owner, taskId)).isTrue();
+
+        boardService.deleteBoard(boardId);
+
+        assertThat(boardSecurity.isOwner(owner, boardId)).isFalse();
+        assertThat(boardSecurity.isBoardOwnerOfTask(owner, taskId)).isFalse();
+    }
+
+    @Test
+    void missingIdsShouldBeDenied() {
+        assertThat(boardSecurity.isOwner(owner, Long.MAX_VALUE)).isFalse();
+        assertThat(boardSecurity.isBoardOwnerOfTask(owner, Long.MAX_VALUE)).isFalse();
+        assertThat(boardSecurity.isOwner(owner, null)).isFalse();
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.taskflow;
+
+import com.example.taskflow.model.dto.AssigneeTaskCountDto;
+import com.example.taskflow.model.dto.BoardRequestDto;
+import com.example.taskflow.model.dto.BoardSummaryDto;
+import com.example.taskflow.model.dto.BulkOperationType;
+import com.example.taskflow.model.dto.BulkTaskOperationDto;
+import com.example.taskflow.model.dto.BulkTaskRequestDto;
+import com.example.taskflow.model.dto.TaskRequestDto;
+import com.example.taskflow.model.dto.TaskResponseDto;
+import com.example.taskflow.model.entity.TaskPriority;
+import com.example.taskflow.model.entity.TaskStatus;
+import com.example.taskflow.model.entity.User;
+import com.example.taskflow.repository.UserRepository;
+import com.example.taskflow.service.BoardService;
+import com.example.taskflow.service.BoardSummaryService;
+import com.example.taskflow.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class BoardSummaryTest extends AbstractIntegrationTest {
+    @Autowired
+    private BoardSummaryService boardSummaryService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long boardId;
+
+    @BeforeEach
+    void createBoard() {
+        User owner = userRepository.findById(1L).orElseThrow();
+        boardId = boardService.createBoard(new BoardRequestDto("Summary board"), owner).id();
+    }
+
+    @Test
+    void summaryShouldFollowTaskWrites() {
+        LocalDateTime now = LocalDateTime.now();
+        Long overdue = create("Overdue", TaskStatus.TODO, TaskPriority.HIGH, now.minusDays(1));
+        Long dueSoon = create("Due soon", TaskStatus.IN_PROGRESS, TaskPriority.HIGH, now.plusHours(2));
+        create("Done late", TaskStatus.DONE, TaskPriority.LOW, now.minusDays(2));
+        create("Later", TaskStatus.TODO, TaskPriority.MEDIUM, now.plusDays(10));
+        Long archived = create("Archived", TaskStatus.TODO, TaskPriority.LOW, null);
+
+        taskService.assignTask(overdue, 2L, 1L);
+        taskService.assignTask(dueSoon, 2L, 1L);
+        taskService.patchUpdateTask(dueSoon, new TaskRequestDto(null, null, TaskStatus.DONE, null, boardId, null), 1L, null);
+        taskService.deleteTask(archived, 1L);
+
+        BoardSummaryDto summary = boardSummaryService.getSummary(boardId);
+
+        assertThat(summary.totalTasks()).isEqualTo(4);
+        assertThat(summary.byStatus()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                TaskStatus.TODO, 2L, TaskStatus.IN_PROGRESS, 0L, TaskStatus.DONE, 2L));
+        assertThat(summary.byPriority()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                TaskPriority.HIGH, 2L, TaskPriority.MEDIUM, 1L, TaskPriority.LOW, 1L));
+        assertThat(summary.byAssignee()).extracting(AssigneeTaskCountDto::assigneeId, AssigneeTaskCountDto::taskCount)
+                .containsExactly(tuple(2L, 2L));
+        assertThat(summary.unassigned()).isEqualTo(2);
+        assertThat(summary.overdue()).isEqualTo(1);
+        assertThat(summary.dueSoon()).isZero();
+    }
+
+    @Test
+    void summaryShouldMatchTaskListingAfterBulkWrites() {
+        List<BulkTaskOperationDto> operations = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            operations.add(new BulkTaskOperationDto(BulkOperationType.CREATE, null,
+                    "Bulk " + i, null, TaskStatus.values()[i % 3], TaskPriority.values()[i % 3], null));
+        }
+        List<TaskResponseDto> created = taskService.applyBulk(new BulkTaskRequestDto(boardId, operations), 1L);
+        taskService.applyBulk(new BulkTaskRequestDto(boardId, created.subList(0, 5).stream()
+                .map(task -> new BulkTaskOperationDto(BulkOperationType.ARCHIVE, task.id(), null, null, null, null, null))
+                .toList()), 1L);
+
+        List<TaskResponseDto> tasks = taskService.getTasksByBoard(boardId, 1L, null, null).tasks();
+        BoardSummaryDto summary = boardSummaryService.getSummary(boardId);
+
+        assertThat(summary.totalTasks()).isEqualTo(tasks.size());
+        assertThat(summary.byStatus()).containsAllEntriesOf(count(tasks, TaskResponseDto::status, TaskStatus.class));
+        assertThat(summary.byPriority()).containsAllEntriesOf(count(tasks, TaskResponseDto::priority, TaskPriority.class));
+    }
+
+    private Long create(String title, TaskStatus status, TaskPriority priority, LocalDateTime deadline) {
+        return taskService.createTask(new TaskRequestDto(title, null, status, priority, boardId, deadline), 1L).id();
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> count(List<TaskResponseDto> tasks,
+                                                           Function<TaskResponseDto, E> key,
+                                                           Class<E> type) {
+        return tasks.stream().collect(Collectors.groupingBy(key, () -> new EnumMap<>(type), Collectors.counting()));
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.taskflow;
+
+import com.example.taskflow.exception.ResourceNotFoundException;
+import com.example.taskflow.model.dto.BoardRequestDto;
+import com.example.taskflow.model.dto.BulkOperationType;
+import com.example.taskflow.model.dto.BulkTaskOperationDto;
+import com.example.taskflow.model.dto.BulkTaskRequestDto;
+import com.example.taskflow.model.dto.TaskResponseDto;
+import com.example.taskflow.model.entity.TaskPriority;
+import com.example.taskflow.model.entity.TaskStatus;
+import com.example.taskflow.model.entity.User;
+import com.example.taskflow.repository.UserRepository;
+import com.example.taskflow.service.BoardService;
+import com.example.taskflow.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BulkTaskOperationsTest extends AbstractIntegrationTest {
+    private static final Long OWNER_ID = 1L;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long boardId;
+
+    @BeforeEach
+    void createBoard() {
+        User owner = userRepository.findById(OWNER_ID).orElseThrow();
+        boardId = boardService.createBoard(new BoardRequestDto("Bulk board"), owner).id();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void disableStatistics() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void bulkCreateShouldBatchInserts() {
+        List<BulkTaskOperationDto> operations = IntStream.range(0, 120)
+                .mapToObj(i -> create("Imported " + i))
+                .toList();
+
+        List<TaskResponseDto> created = taskService.applyBulk(new BulkTaskRequestDto(boardId, operations), OWNER_ID);
+
+        assertThat(created).hasSize(120).extracting(TaskResponseDto::id).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(statistics.getEntityInsertCount()).isGreaterThanOrEqualTo(120);
+        // 3 sequence calls, 3 insert batches, the outbox row and a little headroom; one statement per task would be 120+
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(15);
+    }
+
+    @Test
+    void mixedOperationsShouldApplyInOneRequest() {
+        List<TaskResponseDto> seeded = taskService.applyBulk(new BulkTaskRequestDto(boardId, List.of(
+                create("Keep"), create("Finish"), create("Drop"))), OWNER_ID);
+
+        List<TaskResponseDto> result = taskService.applyBulk(new BulkTaskRequestDto(boardId, List.of(
+                new BulkTaskOperationDto(BulkOperationType.UPDATE, seeded.get(0).id(), "Kept", null, null, TaskPriority.HIGH, null),
+                new BulkTaskOperationDto(BulkOperationType.MOVE, seeded.get(1).id(), null, null, TaskStatus.DONE, null, null),
+                new BulkTaskOperationDto(BulkOperationType.ARCHIVE, seeded.get(2).id(), null, null, null, null, null)
+        )), OWNER_ID);
+
+        assertThat(result.get(0).title()).isEqualTo("Kept");
+        assertThat(result.get(0).priority()).isEqualTo(TaskPriority.HIGH);
+        assertThat(result.get(1).status()).isEqualTo(TaskStatus.DONE);
+        assertThat(result.get(2).isArchived()).isTrue();
+
+        assertThat(taskService.getTasksByBoard(boardId, OWNER_ID, null, null).tasks())
+                .extracting(TaskResponseDto::title)
+                .containsExactlyInAnyOrder("Kept", "Finish");
+    }
+
+    @Test
+    void taskFromAnotherBoardShouldRejectWholeRequest() {
+        List<BulkTaskOperationDto> operations = new ArrayList<>();
+        operations.add(create("Should roll back"));
+        // Task 1 belongs to board 1, not to the board under test
+        operations.add(new BulkTaskOperationDto(BulkOperationType.ARCHIVE, 1L, null, null, null, null, null));
+
+        assertThatThrownBy(() -> taskService.applyBulk(new BulkTaskRequestDto(boardId, operations), OWNER_ID))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(taskService.getTasksByBoard(boardId, OWNER_ID, null, null).tasks()).isEmpty();
+    }
+
+    private static BulkTaskOperationDto create(String title) {
+        return new BulkTaskOperationDto(BulkOperationType.CREATE, null, title, null, TaskStatus.TODO, TaskPriority.MEDIUM, null);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.taskflow;
+
+import com.example.taskflow.messaging.EventBroadcaster;
+import com.example.taskflow.model.dto.event.NotificationDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Runs two application nodes in one JVM against the shared Testcontainers Postgres and Redis
+ * and checks that a broadcast on one node reaches STOMP subscribers connected to the other.
+ */
+public class ClusteredBroadcastTest {
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeA != null) nodeA.close();
+        if (nodeB != null) nodeB.close();
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(DemoApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + AbstractIntegrationTest.postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + AbstractIntegrationTest.postgres.getUsername(),
+                        "spring.datasource.password=" + AbstractIntegrationTest.postgres.getPassword(),
+                        "spring.data.redis.host=" + AbstractIntegrationTest.redis.getHost(),
+                        "spring.data.redis.port=" + AbstractIntegrationTest.redis.getFirstMappedPort(),
+                        "spring.docker.compose.enabled=false",
+                        "taskflow.websocket.broadcast=redis"
+                )
+                .run();
+    }
+
+    @Test
+    void broadcastOnOneNodeShouldReachSubscribersOnEveryNode() throws Exception {
+        BlockingQueue<NotificationDto> receivedOnA = subscribe(nodeA, "/topic/board/42");
+        BlockingQueue<NotificationDto> receivedOnB = subscribe(nodeB, "/topic/board/42");
+
+        NotificationDto notification = new NotificationDto("clustered", 1L, 42L, "TEST");
+        EventBroadcaster broadcaster = nodeA.getBean(EventBroadcaster.class);
+
+        // Subscriptions are registered asynchronously, so keep publishing until the remote node relays one
+        await().atMost(Duration.ofSeconds(15)).untilAsserted(() -> {
+            broadcaster.broadcast("/topic/board/42", notification);
+            assertThat(receivedOnB.poll(500, TimeUnit.MILLISECONDS)).isEqualTo(notification);
+        });
+        assertThat(receivedOnA.poll(5, TimeUnit.SECONDS)).isEqualTo(notification);
+    }
+
+    @Test
+    void userNotificationShouldReachRemoteNode() throws Exception {
+        String destination = "/topic/user/alina@example.com/notification";
+        BlockingQueue<NotificationDto> receivedOnB = subscribe(nodeB, destination);
+
+        NotificationDto notification = new NotificationDto("assigned", 2L, 1L, "ASSIGNMENT");
+        EventBroadcaster broadcaster = nodeA.getBean(EventBroadcaster.class);
+
+        await().atMost(Duration.ofSeconds(15)).untilAsserted(() -> {
+            broadcaster.broadcast(destination, notification);
+            assertThat(receivedOnB.poll(500, TimeUnit.MILLISECONDS)).isEqualTo(notification);
+        });
+    }
+
+    private BlockingQueue<NotificationDto> subscribe(ConfigurableApplicationContext node, String destination)
+            throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+
+        WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+        client.setMessageConverter(converter);
+
+        String port = node.getEnvironment().getProperty("local.server.port");
+        StompSession session = client.connectAsync("ws://localhost:" + port + "/ws", new StompSessionHandlerAdapter() {
+                })
+                .get(10, TimeUnit.SECONDS);
+
+        BlockingQueue<NotificationDto> received = new LinkedBlockingQueue<>();
+        session.subscribe(destination, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return NotificationDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add((NotificationDto) payload);
+            }
+        });
+        return received;
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.taskflow;
+
+import com.example.taskflow.model.dto.BoardRequestDto;
+import com.example.taskflow.model.dto.TaskRequestDto;
+import com.example.taskflow.model.dto.auth.RegisterRequest;
+import com.example.taskflow.model.entity.TaskPriority;
+import com.example.taskflow.model.entity.TaskStatus;
+import com.example.taskflow.model.entity.User;
+import com.example.taskflow.repository.TaskRepository;
+import com.example.taskflow.repository.UserRepository;
+import com.example.taskflow.service.TaskService;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+public class ConditionalRequestTest extends AbstractIntegrationTest {
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String name;
+    private String token;
+
+    @BeforeEach
+    void register() {
+        name = "etag-" + System.nanoTime();
+        token = given()
+                .contentType(ContentType.JSON)
+                .body(new RegisterRequest(name, name + "@example.com", "securePass123"))
+                .when()
+                .post("/api/auth/register")
+                .then()
+                .statusCode(200)
+                .extract()
+                .path("token");
+    }
+
+    @Test
+    void boardListShouldBeNotModifiedUntilBoardsChange() {
+        createBoard("First");
+        String etag = getBoards(null).then().statusCode(200).extract().header("ETag");
+
+        getBoards(etag).then().statusCode(304).body(equalTo(""));
+
+        createBoard("Second");
+        getBoards(etag).then().statusCode(200).header("ETag", not(equalTo(etag)));
+    }
+
+    @Test
+    void taskListShouldBeNotModifiedUntilTasksOfBoardChange() {
+        int boardId = createBoard("Polled");
+        int otherBoardId = createBoard("Other");
+        int taskId = createTask(boardId, "Polled task");
+        String etag = getTasks(boardId, null).then().statusCode(200).extract().header("ETag");
+
+        getTasks(boardId, etag).then().statusCode(304);
+
+        createTask(otherBoardId, "Elsewhere");
+        getTasks(boardId, etag).then().statusCode(304);
+
+        patchTask(taskId, null, "Renamed").then().statusCode(200);
+        getTasks(boardId, etag).then()
+                .statusCode(200)
+                .header("ETag", not(equalTo(etag)))
+                .body("[0].title", equalTo("Renamed"));
+    }
+
+    @Test
+    void cachedTaskListShouldBeServedWithTheVersionItWasReadAt() {
+        int boardId = createBoard("Snapshot");
+        createTask(boardId, "Cached");
+        String etag = getTasks(boardId, null).then().statusCode(200).extract().header("ETag");
+
+        // A write whose eviction has not reached this node yet: the cached list must keep its own ETag
+        jdbcTemplate.update("UPDATE boards SET change_seq = change_seq + 1 WHERE id = ?", boardId);
+
+        getTasks(boardId, etag).then().statusCode(304);
+    }
+
+    @Test
+    void renamingAssigneeShouldChangeTaskList() {
+        int boardId = createBoard("Assignees");
+        int taskId = createTask(boardId, "Assigned");
+        User user = userRepository.findByEmail(name + "@example.com").orElseThrow();
+        taskService.assignTask((long) taskId, user.getId(), user.getId());
+        String etag = getTasks(boardId, null).then().statusCode(200).extract().header("ETag");
+
+        user.setUsername(name + "-renamed");
+        userRepository.save(user);
+
+        getTasks(boardId, etag).then()
+                .statusCode(200)
+                .header("ETag", not(equalTo(etag)))
+                .body("[0].assignee.username", equalTo(name + "-renamed"));
+    }
+
+    @Test
+    void staleIfMatchShouldBeRejected() {
+        int boardId = createBoard("Versions");
+        int taskId = createTask(boardId, "Versioned");
+
+        patchTask(taskId, "\"0\"", "First edit").then()
+                .statusCode(200)
+                .header("ETag", "\"1\"")
+                .body("version", equalTo(1));
+
+        patchTask(taskId, "\"0\"", "Lost edit").then().statusCode(412);
+        patchTask(taskId, "not-a-version", "Bad header").then().statusCode(400);
+
+        assertThat(taskRepository.findById((long) taskId).orElseThrow().getTitle()).isEqualTo("First edit");
+    }
+
+    @Test
+    void concurrentWriteShouldFailWithConflict() {
+        int boardId = createBoard("Conflicts");
+        long taskId = createTask(boardId, "Contended");
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        assertThatThrownBy(() -> transaction.executeWithoutResult(status -> {
+            // Loaded here, then changed by another transaction before this one writes
+            taskRepository.findById(taskId).orElseThrow();
+            CompletableFuture.runAsync(() -> taskService.patchUpdateTask(taskId,
+                    new TaskRequestDto("Winner", null, null, null, null, null), 1L, null)).join();
+
+            taskService.patchUpdateTask(taskId, new TaskRequestDto("Loser", null, null, null, null, null), 1L, null);
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        assertThat(taskRepository.findById(taskId).orElseThrow().getTitle()).isEqualTo("Winner");
+    }
+
+    private int createBoard(String title) {
+        return given()
+                .header("Authorization", "Bearer " + token)
+                .contentType(ContentType.JSON)
+                .body(new BoardRequestDto(title))
+                .when()
+                .post("/api/boards")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+    }
+
+    private int createTask(int boardId, String title) {
+        return given()
+                .header("Authorization", "Bearer " + token)
+                .contentType(ContentType.JSON)
+                .body(new TaskRequestDto(title, null, TaskStatus.TODO, TaskPriority.MEDIUM, (long) boardId, null))
+                .when()
+                .post("/api/tasks")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+    }
+
+    private Response getBoards(String ifNoneMatch) {
+        var request = given().header("Authorization", "Bearer " + token);
+        if (ifNoneMatch != null) request.header("If-None-Match", ifNoneMatch);
+        return request.when().get("/api/boards");
+    }
+
+    private Response getTasks(int boardId, String ifNoneMatch) {
+        var request = given().header("Authorization", "Bearer " + token).queryParam("boardId", boardId);
+        if (ifNoneMatch != null) request.header("If-None-Match", ifNoneMatch);
+        return request.when().get("/api/tasks");
+    }
+
+    private Response patchTask(int taskId, String ifMatch, String title) {
+        var request = given()
+                .header("Authorization", "Bearer " + token)
+                .contentType(ContentType.JSON)
+                .body(new TaskRequestDto(title, null, null, null, null, null));
+        if (ifMatch != null) request.header("If-Match", ifMatch);
+        return request.when().patch("/api/tasks/" + taskId);
+    }
+}
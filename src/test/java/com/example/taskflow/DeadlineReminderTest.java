@@ -0,0 +1,153 @@
+package com.example.taskflow;
+
+import com.example.taskflow.messaging.EventBroadcaster;
+import com.example.taskflow.model.dto.BoardRequestDto;
+import com.example.taskflow.model.dto.TaskRequestDto;
+import com.example.taskflow.model.dto.event.NotificationDto;
+import com.example.taskflow.model.entity.TaskPriority;
+import com.example.taskflow.model.entity.TaskStatus;
+import com.example.taskflow.model.entity.User;
+import com.example.taskflow.repository.TaskReminderRepository;
+import com.example.taskflow.repository.UserRepository;
+import com.example.taskflow.scheduler.ClusterLock;
+import com.example.taskflow.scheduler.DeadLineScheduler;
+import com.example.taskflow.service.BoardService;
+import com.example.taskflow.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatcher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+public class DeadlineReminderTest extends AbstractIntegrationTest {
+    private static final String DESTINATION = "/topic/user/mark@example.com/notifications";
+
+    @MockitoSpyBean
+    private EventBroadcaster eventBroadcaster;
+
+    @Autowired
+    private DeadLineScheduler deadLineScheduler;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskReminderRepository taskReminderRepository;
+
+    @Autowired
+    private ClusterLock clusterLock;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long boardId;
+
+    @BeforeEach
+    void createBoard() {
+        User owner = userRepository.findById(1L).orElseThrow();
+        boardId = boardService.createBoard(new BoardRequestDto("Reminder board"), owner).id();
+    }
+
+    @Test
+    void taskEnteringLeadTimeShouldBeRemindedExactlyOnce() {
+        Long dueSoon = createAssignedTask("Due soon", LocalDateTime.now().plusHours(23));
+        Long dueLater = createAssignedTask("Due later", LocalDateTime.now().plusHours(30));
+
+        deadLineScheduler.checkUpcomingDeadlines();
+        deadLineScheduler.checkUpcomingDeadlines();
+
+        verify(eventBroadcaster, after(1000).times(1)).broadcast(eq(DESTINATION), argThat(warningFor(dueSoon)));
+        verify(eventBroadcaster, after(200).never()).broadcast(eq(DESTINATION), argThat(warningFor(dueLater)));
+        assertThat(taskReminderRepository.existsById(dueSoon)).isTrue();
+        assertThat(taskReminderRepository.existsById(dueLater)).isFalse();
+    }
+
+    @Test
+    void movedDeadlineShouldBeRemindedAgain() {
+        Long taskId = createAssignedTask("Rescheduled", LocalDateTime.now().plusHours(20));
+        deadLineScheduler.checkUpcomingDeadlines();
+        verify(eventBroadcaster, timeout(5000).times(1)).broadcast(eq(DESTINATION), argThat(warningFor(taskId)));
+
+        taskService.patchUpdateTask(taskId, new TaskRequestDto(
+                null, null, null, null, boardId, LocalDateTime.now().plusHours(10)), 1L, null);
+        deadLineScheduler.checkUpcomingDeadlines();
+
+        verify(eventBroadcaster, timeout(5000).times(2)).broadcast(eq(DESTINATION), argThat(warningFor(taskId)));
+    }
+
+    @Test
+    void failedWarningDeliveryShouldBeRetried() {
+        Long taskId = createAssignedTask("Retried warning", LocalDateTime.now().plusHours(5));
+        doThrow(new IllegalStateException("broker down"))
+                .doCallRealMethod()
+                .when(eventBroadcaster).broadcast(eq(DESTINATION), argThat(warningFor(taskId)));
+
+        deadLineScheduler.checkUpcomingDeadlines();
+
+        // The first attempt fails; the outbox row survives and the relay delivers it on a later poll
+        verify(eventBroadcaster, timeout(5000).times(2)).broadcast(eq(DESTINATION), argThat(warningFor(taskId)));
+        assertThat(taskReminderRepository.existsById(taskId)).isTrue();
+    }
+
+    @Test
+    void sweepShouldSkipWhileAnotherNodeHoldsTheLock() throws Exception {
+        Long taskId = createAssignedTask("Locked out", LocalDateTime.now().plusHours(12));
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> otherNode = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    assertThat(clusterLock.tryLockForTransaction(ClusterLock.DEADLINE_REMINDERS)).isTrue();
+                    locked.countDown();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+        deadLineScheduler.checkUpcomingDeadlines();
+        assertThat(taskReminderRepository.existsById(taskId)).isFalse();
+
+        release.countDown();
+        otherNode.get(10, TimeUnit.SECONDS);
+
+        deadLineScheduler.checkUpcomingDeadlines();
+        verify(eventBroadcaster, timeout(5000)).broadcast(eq(DESTINATION), argThat(warningFor(taskId)));
+    }
+
+    private Long createAssignedTask(String title, LocalDateTime deadline) {
+        Long taskId = taskService.createTask(new TaskRequestDto(
+                title, null, TaskStatus.TODO, TaskPriority.MEDIUM, boardId, deadline), 1L).id();
+        taskService.assignTask(taskId, 2L, 1L);
+        return taskId;
+    }
+
+    private static ArgumentMatcher<Object> warningFor(Long taskId) {
+        return payload -> payload instanceof NotificationDto notification
+                && "DEADLINE_WARNING".equals(notification.type())
+                && taskId.equals(notification.taskId());
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.taskflow;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+
+@TestPropertySource(properties = {
+        "taskflow.security.metrics.username=scraper",
+        "taskflow.security.metrics.password=scrape-secret"
+})
+public class MetricsEndpointTest extends AbstractIntegrationTest {
+    @Test
+    void healthShouldStayPublic() {
+        given().when().get("/actuator/health").then().statusCode(200);
+    }
+
+    @Test
+    void prometheusShouldRequireScrapeCredentials() {
+        given().when().get("/actuator/prometheus").then().statusCode(401);
+
+        given().auth().preemptive().basic("scraper", "wrong")
+                .when().get("/actuator/prometheus")
+                .then().statusCode(401);
+
+        given().auth().preemptive().basic("scraper", "scrape-secret")
+                .when().get("/actuator/prometheus")
+                .then()
+                .statusCode(200)
+                .body(containsString("http_server_requests"));
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.taskflow;
+
+import com.example.taskflow.cache.BoardCacheEvictor;
+import com.example.taskflow.model.dto.TaskRequestDto;
+import com.example.taskflow.model.dto.TaskResponseDto;
+import com.example.taskflow.model.entity.TaskPriority;
+import com.example.taskflow.model.entity.TaskStatus;
+import com.example.taskflow.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TaskCacheEvictionTest extends AbstractIntegrationTest {
+    private static final Long BOARD_A = 1L;
+    private static final Long BOARD_B = 2L;
+    private static final Long OWNER_ID = 1L;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Cache tasksCache;
+
+    @BeforeEach
+    void clearCache() {
+        tasksCache = cacheManager.getCache(BoardCacheEvictor.TASKS_CACHE);
+        tasksCache.clear();
+    }
+
+    @Test
+    void writesToOneBoardShouldKeepOtherBoardsCached() {
+        List<TaskResponseDto> boardATasks = taskService.getTasksByBoard(BOARD_A, OWNER_ID, null, null).tasks();
+        taskService.getTasksByBoard(BOARD_A, OWNER_ID, TaskPriority.HIGH, null);
+        taskService.getTasksByBoard(BOARD_B, OWNER_ID, null, null);
+        taskService.getTasksByBoard(BOARD_B, OWNER_ID, null, OWNER_ID);
+
+        assertThat(tasksCache.get("1:null:null")).isNotNull();
+        assertThat(tasksCache.get("2:null:1")).isNotNull();
+
+        TaskResponseDto created = taskService.createTask(new TaskRequestDto(
+                "Cache eviction check", null, TaskStatus.TODO, TaskPriority.LOW, BOARD_B, null), OWNER_ID);
+
+        assertThat(tasksCache.get("2:null:null")).isNull();
+        assertThat(tasksCache.get("2:null:1")).isNull();
+        assertThat(tasksCache.get("1:null:null")).isNotNull();
+        assertThat(tasksCache.get("1:HIGH:null")).isNotNull();
+        assertThat(taskService.getTasksByBoard(BOARD_A, OWNER_ID, null, null).tasks()).isEqualTo(boardATasks);
+
+        taskService.getTasksByBoard(BOARD_B, OWNER_ID, null, null);
+        taskService.assignTask(created.id(), OWNER_ID, OWNER_ID);
+
+        assertThat(tasksCache.get("2:null:null")).isNull();
+        assertThat(tasksCache.get("1:null:null")).isNotNull();
+
+        taskService.deleteTask(created.id(), OWNER_ID);
+
+        assertThat(tasksCache.get("1:null:null")).isNotNull();
+        assertThat(taskService.getTasksByBoard(BOARD_B, OWNER_ID, null, null).tasks())
+                .extracting(TaskResponseDto::id)
+                .doesNotContain(created.id());
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.taskflow;
+
+import com.example.taskflow.model.dto.BoardRequestDto;
+import com.example.taskflow.model.dto.BulkOperationType;
+import com.example.taskflow.model.dto.BulkTaskOperationDto;
+import com.example.taskflow.model.dto.BulkTaskRequestDto;
+import com.example.taskflow.model.dto.TaskChangeDto;
+import com.example.taskflow.model.dto.TaskChangesDto;
+import com.example.taskflow.model.dto.TaskRequestDto;
+import com.example.taskflow.model.entity.TaskPriority;
+import com.example.taskflow.model.entity.TaskStatus;
+import com.example.taskflow.model.entity.User;
+import com.example.taskflow.repository.UserRepository;
+import com.example.taskflow.service.BoardService;
+import com.example.taskflow.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TaskChangeSyncTest extends AbstractIntegrationTest {
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long boardId;
+
+    @BeforeEach
+    void createBoard() {
+        User owner = userRepository.findById(1L).orElseThrow();
+        boardId = boardService.createBoard(new BoardRequestDto("Sync board"), owner).id();
+    }
+
+    @Test
+    void changesSinceShouldReturnOnlyLaterWrites() {
+        Long kept = create("Kept");
+        Long edited = create("Edited");
+        Long archived = create("Archived");
+        long since = taskService.getChangesSince(boardId, 0, 100).seq();
+
+        taskService.patchUpdateTask(edited, new TaskRequestDto("Edited v2", null, null, null, boardId, null), 1L, null);
+        taskService.deleteTask(archived, 1L);
+        Long added = create("Added");
+
+        TaskChangesDto changes = taskService.getChangesSince(boardId, since, 100);
+
+        assertThat(changes.changes()).extracting(change -> change.task().id()).containsExactly(edited, archived, added);
+        assertThat(changes.changes()).extracting(TaskChangeDto::seq).containsExactly(since + 1, since + 2, since + 3);
+        assertThat(changes.changes().get(1).task().isArchived()).isTrue();
+        assertThat(changes.changes()).noneMatch(change -> change.task().id().equals(kept));
+        assertThat(changes.seq()).isEqualTo(since + 3);
+        assertThat(changes.hasMore()).isFalse();
+
+        TaskChangesDto upToDate = taskService.getChangesSince(boardId, changes.seq(), 100);
+        assertThat(upToDate.changes()).isEmpty();
+        assertThat(upToDate.seq()).isEqualTo(changes.seq());
+    }
+
+    @Test
+    void changesShouldBePagedBySeq() {
+        List<BulkTaskOperationDto> operations = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            operations.add(new BulkTaskOperationDto(BulkOperationType.CREATE, null,
+                    "Bulk " + i, null, TaskStatus.TODO, TaskPriority.LOW, null));
+        }
+        taskService.applyBulk(new BulkTaskRequestDto(boardId, operations), 1L);
+
+        List<Long> seqs = new ArrayList<>();
+        TaskChangesDto page;
+        long since = 0;
+        do {
+            page = taskService.getChangesSince(boardId, since, 3);
+            page.changes().forEach(change -> seqs.add(change.seq()));
+            since = page.seq();
+        } while (page.hasMore());
+
+        assertThat(seqs).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+    }
+
+    @Test
+    void concurrentWritersShouldGetDistinctConsecutiveSeqs() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                int n = i;
+                futures.add(executor.submit(() -> create("Concurrent " + n)));
+            }
+            for (Future<Long> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        TaskChangesDto changes = taskService.getChangesSince(boardId, 0, 100);
+
+        assertThat(changes.changes()).extracting(TaskChangeDto::seq)
+                .containsExactlyElementsOf(LongStream.rangeClosed(1, 40).boxed().toList());
+    }
+
+    private Long create(String title) {
+        return taskService.createTask(new TaskRequestDto(
+                title, null, TaskStatus.TODO, TaskPriority.MEDIUM, boardId, null), 1L).id();
+    }
+}
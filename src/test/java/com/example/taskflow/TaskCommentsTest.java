@@ -0,0 +1,121 @@
+package com.example.taskflow;
+
+import com.example.taskflow.cache.CommentCacheEvictor;
+import com.example.taskflow.messaging.EventBroadcaster;
+import com.example.taskflow.model.dto.BoardRequestDto;
+import com.example.taskflow.model.dto.CommentPageDto;
+import com.example.taskflow.model.dto.CommentRequestDto;
+import com.example.taskflow.model.dto.CommentResponseDto;
+import com.example.taskflow.model.dto.TaskRequestDto;
+import com.example.taskflow.model.dto.event.CommentEventDto;
+import com.example.taskflow.model.dto.event.EventType;
+import com.example.taskflow.model.entity.TaskPriority;
+import com.example.taskflow.model.entity.TaskStatus;
+import com.example.taskflow.model.entity.User;
+import com.example.taskflow.repository.UserRepository;
+import com.example.taskflow.service.BoardService;
+import com.example.taskflow.service.CommentService;
+import com.example.taskflow.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+public class TaskCommentsTest extends AbstractIntegrationTest {
+    @MockitoSpyBean
+    private EventBroadcaster eventBroadcaster;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Long taskId;
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @BeforeEach
+    void createThread() {
+        User owner = userRepository.findById(1L).orElseThrow();
+        Long boardId = boardService.createBoard(new BoardRequestDto("Comments board"), owner).id();
+        taskId = taskService.createTask(new TaskRequestDto(
+                "Discussed task", null, TaskStatus.TODO, TaskPriority.MEDIUM, boardId, null), 1L).id();
+
+        for (int i = 0; i < 7; i++) {
+            createdIds.add(commentService.addComment(taskId, new CommentRequestDto("Comment " + i), 1L).id());
+        }
+    }
+
+    @Test
+    void shouldWalkThreadNewestFirst() {
+        List<CommentResponseDto> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            CommentPageDto page = commentService.getComments(taskId, cursor, 3);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(3);
+            assertThat(page.commentCount()).isEqualTo(7);
+            seen.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).extracting(CommentResponseDto::id).containsExactlyElementsOf(createdIds.reversed());
+        assertThat(seen).extracting(CommentResponseDto::authorId).containsOnly(1L);
+    }
+
+    @Test
+    void cachedFirstPageShouldFollowAddsAndDeletes() {
+        assertThat(commentService.getComments(taskId, null, 3).commentCount()).isEqualTo(7);
+
+        Long addedId = commentService.addComment(taskId, new CommentRequestDto("Latest"), 1L).id();
+        CommentPageDto afterAdd = commentService.getComments(taskId, null, 3);
+        assertThat(afterAdd.commentCount()).isEqualTo(8);
+        assertThat(afterAdd.items().get(0).id()).isEqualTo(addedId);
+
+        commentService.deleteComment(taskId, addedId, 1L);
+        CommentPageDto afterDelete = commentService.getComments(taskId, null, 3);
+        assertThat(afterDelete.commentCount()).isEqualTo(7);
+        assertThat(afterDelete.items().get(0).id()).isEqualTo(createdIds.get(6));
+    }
+
+    @Test
+    void limitsOutsideTheAllowedRangeShouldShareTheClampedCacheEntry() {
+        commentService.getComments(taskId, null, 500);
+        commentService.getComments(taskId, null, 0);
+
+        Cache cache = cacheManager.getCache(CommentCacheEvictor.COMMENTS_CACHE);
+        assertThat(cache.get(taskId + ":100")).isNotNull();
+        assertThat(cache.get(taskId + ":1")).isNotNull();
+        assertThat(cache.get(taskId + ":500")).isNull();
+        assertThat(cache.get(taskId + ":0")).isNull();
+    }
+
+    @Test
+    void newCommentShouldBeStreamedToTaskChannel() {
+        CommentResponseDto added = commentService.addComment(taskId, new CommentRequestDto("Streamed"), 1L);
+
+        verify(eventBroadcaster, timeout(5000)).broadcast(eq("/topic/task/" + taskId + "/comments"),
+                argThat(payload -> payload instanceof CommentEventDto event
+                        && event.type() == EventType.COMMENT_ADDED
+                        && event.comment().equals(added)));
+    }
+}
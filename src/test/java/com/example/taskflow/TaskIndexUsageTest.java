@@ -0,0 +1,115 @@
+package com.example.taskflow;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.StringJoiner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TaskIndexUsageTest extends AbstractIntegrationTest {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void boardFilterByPriorityShouldUsePartialCompositeIndex() {
+        String plan = explain("""
+                SELECT id FROM tasks
+                WHERE board_id = 1 AND is_archived = false AND priority = 'HIGH'
+                """);
+
+        assertThat(plan).contains("idx_tasks_board_priority_active");
+    }
+
+    @Test
+    void activeBoardListingShouldUsePartialIndex() {
+        String plan = explain("""
+                SELECT id FROM tasks
+                WHERE board_id = 1 AND is_archived = false AND id > 2
+                ORDER BY id
+                LIMIT 50
+                """);
+
+        assertThat(plan).contains("idx_tasks_board_active");
+    }
+
+    @Test
+    void deadlineScanShouldUsePendingDeadlineIndex() {
+        String plan = explain("""
+                SELECT id FROM tasks
+                WHERE deadline BETWEEN now() + interval '24 hours' AND now() + interval '25 hours'
+                AND status <> 'DONE' AND is_archived = false
+                """);
+
+        assertThat(plan).contains("idx_tasks_deadline_pending");
+    }
+
+    @Test
+    void boardDeadlineCountsShouldUseBoardPendingDeadlineIndex() {
+        // Without statistics the planner cannot tell this index from the other board indexes
+        jdbcTemplate.execute("ANALYZE tasks");
+        String plan = explain("""
+                SELECT count(*) FROM tasks
+                WHERE board_id = 1 AND is_archived = false AND status <> 'DONE'
+                AND deadline < now() + interval '24 hours'
+                """);
+
+        assertThat(plan).contains("idx_tasks_board_deadline_pending");
+    }
+
+    @Test
+    void changesSinceShouldUseChangeSeqIndex() {
+        String plan = explain("""
+                SELECT id FROM tasks
+                WHERE board_id = 1 AND change_seq > 3
+                ORDER BY change_seq
+                LIMIT 501
+                """);
+
+        assertThat(plan).contains("idx_tasks_board_change_seq");
+    }
+
+    @Test
+    void searchShouldUseSearchVectorIndex() {
+        String plan = explain("""
+                SELECT id FROM tasks
+                WHERE is_archived = false AND search_vector @@ websearch_to_tsquery('simple', 'security')
+                """);
+
+        assertThat(plan).contains("idx_tasks_search");
+    }
+
+    @Test
+    void commentPageShouldScanTaskThreadIndex() {
+        String plan = explain("""
+                SELECT id FROM comments
+                WHERE task_id = 2 AND (created_at, id) < (now(), 100)
+                ORDER BY created_at DESC, id DESC
+                LIMIT 21
+                """);
+
+        assertThat(plan).contains("Scan Backward using idx_comments_task_created");
+    }
+
+    // The mock data set is tiny, so sequential scans are disabled to make the planner reveal which index it would pick
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET enable_seqscan = off");
+                try (ResultSet rs = statement.executeQuery("EXPLAIN " + sql)) {
+                    StringJoiner plan = new StringJoiner("\n");
+                    while (rs.next()) {
+                        plan.add(rs.getString(1));
+                    }
+                    return plan.toString();
+                } finally {
+                    statement.execute("RESET enable_seqscan");
+                }
+            }
+        });
+    }
+}
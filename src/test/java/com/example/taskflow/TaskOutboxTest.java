@@ -0,0 +1,102 @@
+package com.example.taskflow;
+
+import com.example.taskflow.messaging.EventBroadcaster;
+import com.example.taskflow.model.dto.BoardRequestDto;
+import com.example.taskflow.model.dto.TaskRequestDto;
+import com.example.taskflow.model.dto.event.EventType;
+import com.example.taskflow.model.dto.event.TaskEventDto;
+import com.example.taskflow.model.entity.OutboxEventType;
+import com.example.taskflow.model.entity.TaskPriority;
+import com.example.taskflow.model.entity.TaskStatus;
+import com.example.taskflow.model.entity.User;
+import com.example.taskflow.repository.OutboxRepository;
+import com.example.taskflow.repository.UserRepository;
+import com.example.taskflow.service.BoardService;
+import com.example.taskflow.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+public class TaskOutboxTest extends AbstractIntegrationTest {
+    @MockitoSpyBean
+    private EventBroadcaster eventBroadcaster;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long boardId;
+
+    @BeforeEach
+    void createBoard() {
+        User owner = userRepository.findById(1L).orElseThrow();
+        boardId = boardService.createBoard(new BoardRequestDto("Outbox board"), owner).id();
+    }
+
+    @Test
+    void committedTaskEventShouldBeRelayedAndRemovedFromOutbox() {
+        Long taskId = taskService.createTask(new TaskRequestDto(
+                "Relayed", null, TaskStatus.TODO, TaskPriority.LOW, boardId, null), 1L).id();
+
+        verify(eventBroadcaster, timeout(5000)).broadcast(eq("/topic/board/" + boardId),
+                argThat(payload -> payload instanceof TaskEventDto event
+                        && event.type() == EventType.TASK_CREATED
+                        && event.task().id().equals(taskId)));
+        assertThat(outboxRepository.findAll()).noneMatch(event -> event.getBoardId().equals(boardId));
+    }
+
+    @Test
+    void failedBroadcastShouldKeepEventInOutboxUntilRetried() {
+        doThrow(new IllegalStateException("broker down"))
+                .doCallRealMethod()
+                .when(eventBroadcaster).broadcast(eq("/topic/board/" + boardId), any());
+
+        Long taskId = taskService.createTask(new TaskRequestDto(
+                "Retried", null, TaskStatus.TODO, TaskPriority.LOW, boardId, null), 1L).id();
+
+        verify(eventBroadcaster, timeout(5000).atLeast(2)).broadcast(eq("/topic/board/" + boardId),
+                argThat(payload -> payload instanceof TaskEventDto event && event.task().id().equals(taskId)));
+        assertThat(outboxRepository.findAll()).noneMatch(event -> event.getBoardId().equals(boardId));
+    }
+
+    @Test
+    void rolledBackTaskEventShouldNeverBePublished() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            taskService.createTask(new TaskRequestDto(
+                    "Rolled back", null, TaskStatus.TODO, TaskPriority.LOW, boardId, null), 1L);
+
+            assertThat(outboxRepository.findAll())
+                    .anyMatch(event -> event.getBoardId().equals(boardId)
+                            && event.getEventType() == OutboxEventType.BOARD_UPDATE);
+            status.setRollbackOnly();
+        });
+
+        verify(eventBroadcaster, after(1000).never()).broadcast(eq("/topic/board/" + boardId), any());
+        assertThat(outboxRepository.findAll()).noneMatch(event -> event.getBoardId().equals(boardId));
+    }
+}
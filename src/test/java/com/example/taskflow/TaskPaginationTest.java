@@ -0,0 +1,78 @@
+package com.example.taskflow;
+
+import com.example.taskflow.model.dto.BoardRequestDto;
+import com.example.taskflow.model.dto.TaskPageDto;
+import com.example.taskflow.model.dto.TaskRequestDto;
+import com.example.taskflow.model.dto.TaskResponseDto;
+import com.example.taskflow.model.dto.TaskSort;
+import com.example.taskflow.model.entity.TaskPriority;
+import com.example.taskflow.model.entity.TaskStatus;
+import com.example.taskflow.model.entity.User;
+import com.example.taskflow.repository.UserRepository;
+import com.example.taskflow.service.BoardService;
+import com.example.taskflow.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TaskPaginationTest extends AbstractIntegrationTest {
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long boardId;
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @BeforeEach
+    void createBoard() {
+        User owner = userRepository.findById(1L).orElseThrow();
+        boardId = boardService.createBoard(new BoardRequestDto("Pagination board"), owner).id();
+
+        LocalDateTime base = LocalDateTime.of(2030, 1, 1, 12, 0);
+        for (int i = 0; i < 7; i++) {
+            LocalDateTime deadline = i % 3 == 0 ? null : base.minusDays(i);
+            createdIds.add(taskService.createTask(new TaskRequestDto(
+                    "Task " + i, null, TaskStatus.TODO, TaskPriority.MEDIUM, boardId, deadline), 1L).id());
+        }
+    }
+
+    @Test
+    void shouldWalkAllPagesOrderedById() {
+        List<TaskResponseDto> seen = readAll(TaskSort.ID);
+
+        assertThat(seen).extracting(TaskResponseDto::id).containsExactlyElementsOf(createdIds);
+    }
+
+    @Test
+    void shouldWalkAllPagesOrderedByDeadlineWithUndatedTasksLast() {
+        List<TaskResponseDto> seen = readAll(TaskSort.DEADLINE);
+
+        assertThat(seen).hasSize(createdIds.size());
+        assertThat(seen.subList(0, 4)).extracting(TaskResponseDto::deadline).isSorted().doesNotContainNull();
+        assertThat(seen.subList(4, 7)).extracting(TaskResponseDto::deadline).containsOnlyNulls();
+        assertThat(seen.subList(4, 7)).extracting(TaskResponseDto::id).isSorted();
+    }
+
+    private List<TaskResponseDto> readAll(TaskSort sort) {
+        List<TaskResponseDto> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            TaskPageDto page = taskService.getTaskPage(boardId, null, null, sort, cursor, 3);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(3);
+            seen.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return seen;
+    }
+}
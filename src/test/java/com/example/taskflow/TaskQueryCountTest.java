@@ -0,0 +1,92 @@
+package com.example.taskflow;
+
+import com.example.taskflow.cache.BoardCacheEvictor;
+import com.example.taskflow.model.dto.TaskResponseDto;
+import com.example.taskflow.model.dto.TaskSort;
+import com.example.taskflow.repository.TaskReminderRepository;
+import com.example.taskflow.service.BoardSummaryService;
+import com.example.taskflow.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TaskQueryCountTest extends AbstractIntegrationTest {
+    private static final Long BOARD_WITH_SEVERAL_ASSIGNEES = 1L;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private BoardSummaryService boardSummaryService;
+
+    @Autowired
+    private TaskReminderRepository taskReminderRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void enableStatistics() {
+        cacheManager.getCache(BoardCacheEvictor.TASKS_CACHE).clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void disableStatistics() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void boardListingShouldRunOneStatementForTasks() {
+        List<TaskResponseDto> tasks = taskService.getTasksByBoard(BOARD_WITH_SEVERAL_ASSIGNEES, 1L, null, null).tasks();
+
+        assertThat(tasks).extracting(task -> task.assignee() != null ? task.assignee().id() : null)
+                .contains(1L, 2L);
+        // The board's change sequence, read with the tasks as the list version, and the tasks themselves
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void pagedListingShouldRunSingleStatement() {
+        taskService.getTaskPage(BOARD_WITH_SEVERAL_ASSIGNEES, null, null, TaskSort.DEADLINE, null, 2);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void deadlineScanShouldRunSingleStatement() {
+        taskReminderRepository.findDueWithoutReminder(
+                LocalDateTime.of(2026, 1, 1, 0, 0), LocalDateTime.of(2026, 12, 31, 0, 0), Limit.of(500));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void boardSummaryShouldNotLoadTasks() {
+        boardSummaryService.getSummary(BOARD_WITH_SEVERAL_ASSIGNEES);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.taskflow;
+
+import com.example.taskflow.model.dto.BoardRequestDto;
+import com.example.taskflow.model.dto.TaskRequestDto;
+import com.example.taskflow.model.dto.TaskSearchPageDto;
+import com.example.taskflow.model.dto.TaskSearchResultDto;
+import com.example.taskflow.model.entity.TaskPriority;
+import com.example.taskflow.model.entity.TaskStatus;
+import com.example.taskflow.model.entity.User;
+import com.example.taskflow.repository.UserRepository;
+import com.example.taskflow.service.BoardService;
+import com.example.taskflow.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TaskSearchTest extends AbstractIntegrationTest {
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long boardId;
+    // Unique per test so hits from other tests sharing the database never interfere
+    private String word;
+
+    @BeforeEach
+    void createBoard() {
+        User owner = userRepository.findById(1L).orElseThrow();
+        boardId = boardService.createBoard(new BoardRequestDto("Search board"), owner).id();
+        word = "zephyr" + System.nanoTime();
+    }
+
+    @Test
+    void titleMatchShouldRankAboveDescriptionMatch() {
+        Long inDescription = createTask("Unrelated title", "Mentions " + word + " in passing");
+        Long inTitle = createTask("Fix " + word + " crash", null);
+
+        TaskSearchPageDto page = taskService.searchTasks(1L, word, null, null, 20);
+
+        assertThat(page.items()).extracting(TaskSearchResultDto::id).containsExactly(inTitle, inDescription);
+        assertThat(page.items().get(0).headline()).contains("<mark>" + word + "</mark>");
+    }
+
+    @Test
+    void commentTextShouldBeSearchableAndFollowDeletes() {
+        Long taskId = createTask("Plain task", null);
+        jdbcTemplate.update("INSERT INTO comments (text, author_id, task_id) VALUES (?, 1, ?)",
+                "Seen " + word + " again", taskId);
+
+        assertThat(search(word)).containsExactly(taskId);
+
+        jdbcTemplate.update("DELETE FROM comments WHERE task_id = ?", taskId);
+
+        assertThat(search(word)).isEmpty();
+    }
+
+    @Test
+    void editedTitleShouldBeFoundImmediately() {
+        Long taskId = createTask("Before edit", null);
+
+        taskService.patchUpdateTask(taskId, new TaskRequestDto("After " + word, null, null, null, null, null), 1L, null);
+
+        assertThat(search(word)).containsExactly(taskId);
+        assertThat(search("before")).doesNotContain(taskId);
+    }
+
+    @Test
+    void otherUsersShouldNotSeeTasksOnBoardsTheyDoNotOwn() {
+        createTask("Private " + word, null);
+
+        assertThat(taskService.searchTasks(2L, word, null, null, 20).items()).isEmpty();
+    }
+
+    @Test
+    void shouldWalkAllPagesWithoutGapsOrRepeats() {
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(createTask(word + " task " + i, i % 2 == 0 ? word : null));
+        }
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            TaskSearchPageDto page = taskService.searchTasks(1L, word, boardId, cursor, 2);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(2);
+            page.items().forEach(hit -> seen.add(hit.id()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).containsExactlyInAnyOrderElementsOf(created).doesNotHaveDuplicates();
+    }
+
+    private List<Long> search(String query) {
+        return taskService.searchTasks(1L, query, boardId, null, 100).items().stream()
+                .map(TaskSearchResultDto::id)
+                .toList();
+    }
+
+    private Long createTask(String title, String description) {
+        return taskService.createTask(new TaskRequestDto(
+                title, description, TaskStatus.TODO, TaskPriority.MEDIUM, boardId, null), 1L).id();
+    }
+}
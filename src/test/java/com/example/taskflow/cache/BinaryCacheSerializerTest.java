@@ -0,0 +1,120 @@
+package com.example.taskflow.cache;
+
+import com.example.taskflow.config.RedisConfig;
+import com.example.taskflow.model.dto.AssigneeDto;
+import com.example.taskflow.model.dto.BoardListDto;
+import com.example.taskflow.model.dto.BoardResponseDto;
+import com.example.taskflow.model.dto.CommentPageDto;
+import com.example.taskflow.model.dto.CommentResponseDto;
+import com.example.taskflow.model.dto.TaskListDto;
+import com.example.taskflow.model.dto.TaskResponseDto;
+import com.example.taskflow.model.entity.TaskPriority;
+import com.example.taskflow.model.entity.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinaryCacheSerializerTest {
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = RedisConfig.createSerializer();
+    private final BinaryCacheSerializer serializer = new BinaryCacheSerializer(DtoCodecs.ALL, jsonSerializer, 1024);
+
+    static List<TaskResponseDto> sampleTasks(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> new TaskResponseDto(
+                        id,
+                        "Task " + id,
+                        id % 3 == 0 ? null : "Description of task " + id,
+                        TaskStatus.values()[(int) (id % TaskStatus.values().length)],
+                        TaskPriority.values()[(int) (id % TaskPriority.values().length)],
+                        1L,
+                        id % 2 == 0 ? null : LocalDateTime.of(2026, 3, 1, 10, 0).plusMinutes(id),
+                        false,
+                        id % 4 == 0 ? null : new AssigneeDto(id % 10, "user" + id % 10, "user" + id % 10 + "@example.com"),
+                        id % 5
+                ))
+                .toList();
+    }
+
+    @Test
+    void shouldRoundTripTaskList() {
+        List<TaskResponseDto> tasks = sampleTasks(10);
+
+        Object restored = serializer.deserialize(serializer.serialize(tasks));
+
+        assertThat(restored).isEqualTo(tasks);
+    }
+
+    @Test
+    void shouldRoundTripBoardList() {
+        List<BoardResponseDto> boards = List.of(new BoardResponseDto(1L, "Дошка", 7L), new BoardResponseDto(2L, null, 7L));
+
+        assertThat(serializer.deserialize(serializer.serialize(boards))).isEqualTo(boards);
+    }
+
+    @Test
+    void shouldRoundTripVersionedLists() {
+        TaskListDto taskList = new TaskListDto(42L, sampleTasks(5));
+        BoardListDto boardList = new BoardListDto(3L, List.of(new BoardResponseDto(1L, "Дошка", 7L)));
+
+        assertThat(serializer.deserialize(serializer.serialize(taskList))).isEqualTo(taskList);
+        assertThat(serializer.deserialize(serializer.serialize(boardList))).isEqualTo(boardList);
+        assertThat(serializer.deserialize(jsonSerializer.serialize(taskList))).isEqualTo(taskList);
+    }
+
+    @Test
+    void shouldRoundTripCommentPage() {
+        CommentPageDto page = new CommentPageDto(List.of(
+                new CommentResponseDto(9L, 1L, "Перевірю завтра", 2L, "olena", LocalDateTime.of(2026, 3, 1, 10, 0, 0, 123_000_000)),
+                new CommentResponseDto(8L, 1L, "", 1L, null, LocalDateTime.of(2026, 3, 1, 9, 0))
+        ), "MjAyNi0wMy0wMVQwOTowMHw4", 12);
+
+        assertThat(serializer.deserialize(serializer.serialize(page))).isEqualTo(page);
+    }
+
+    @Test
+    void shouldCompressLargePayloads() {
+        List<TaskResponseDto> tasks = sampleTasks(500);
+
+        byte[] bytes = serializer.serialize(tasks);
+
+        assertThat(bytes[0]).isEqualTo(BinaryCacheSerializer.FORMAT_VERSION);
+        assertThat(bytes[1]).isEqualTo((byte) 1);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(tasks);
+    }
+
+    @Test
+    void shouldBeSmallerThanJson() {
+        List<TaskResponseDto> tasks = sampleTasks(100);
+
+        assertThat(serializer.serialize(tasks).length).isLessThan(jsonSerializer.serialize(tasks).length / 3);
+    }
+
+    @Test
+    void shouldReadEntriesWrittenByJsonSerializer() {
+        List<TaskResponseDto> tasks = sampleTasks(3);
+
+        assertThat(serializer.deserialize(jsonSerializer.serialize(tasks))).isEqualTo(tasks);
+    }
+
+    @Test
+    void shouldTreatUnknownFormatVersionAsMiss() {
+        byte[] bytes = serializer.serialize(sampleTasks(1));
+        bytes[0] = BinaryCacheSerializer.FORMAT_VERSION + 1;
+
+        assertThat(serializer.deserialize(bytes)).isNull();
+    }
+
+    @Test
+    void shouldEmbedUnknownTypesAsJson() {
+        Map<String, Long> value = new HashMap<>(Map.of("answer", 42L));
+
+        assertThat(serializer.deserialize(serializer.serialize(value))).isEqualTo(value);
+    }
+}
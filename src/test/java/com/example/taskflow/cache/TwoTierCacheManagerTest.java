@@ -0,0 +1,103 @@
+package com.example.taskflow.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class TwoTierCacheManagerTest {
+    private static final String CHANNEL = "cache-invalidation";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    // Stands in for Redis: one L2 shared by both nodes, and a channel that delivers to every subscriber
+    private final ConcurrentMapCacheManager remoteCacheManager = new ConcurrentMapCacheManager();
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final List<TwoTierCacheManager> subscribers = new ArrayList<>();
+
+    private TwoTierCacheManager nodeA;
+    private TwoTierCacheManager nodeB;
+
+    @BeforeEach
+    void wireNodes() {
+        doAnswer(invocation -> {
+            DefaultMessage message = new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+                    invocation.<String>getArgument(1).getBytes(StandardCharsets.UTF_8));
+            subscribers.forEach(subscriber -> subscriber.onMessage(message, null));
+            return 1L;
+        }).when(redisTemplate).convertAndSend(eq(CHANNEL), anyString());
+
+        nodeA = node();
+        nodeB = node();
+    }
+
+    @Test
+    void evictOnOneNodeShouldDropNearCopyOnOther() {
+        Cache cacheA = nodeA.getCache("tasks");
+        Cache cacheB = nodeB.getCache("tasks");
+        cacheA.put("board:1", "v1");
+        assertThat(cacheB.get("board:1").get()).isEqualTo("v1");
+
+        cacheA.evict("board:1");
+        cacheA.put("board:1", "v2");
+
+        assertThat(cacheB.get("board:1").get()).isEqualTo("v2");
+    }
+
+    @Test
+    void prefixEvictionShouldReachOtherNode() {
+        TwoTierCache cacheA = (TwoTierCache) nodeA.getCache("tasks");
+        Cache cacheB = nodeB.getCache("tasks");
+        cacheB.put("board:1:page:0", "v1");
+
+        cacheA.evictByPrefix("board:1:");
+        remoteCacheManager.getCache("tasks").put("board:1:page:0", "v2");
+
+        assertThat(cacheB.get("board:1:page:0").get()).isEqualTo("v2");
+    }
+
+    @Test
+    void ownInvalidationShouldBeIgnored() {
+        Cache cacheA = nodeA.getCache("tasks");
+        cacheA.put("board:1", "v1");
+        cacheA.put("board:2", "v2");
+
+        // Node A hears its own broadcast back; board:2 must stay in its near cache
+        cacheA.evict("board:1");
+        remoteCacheManager.getCache("tasks").evict("board:2");
+
+        assertThat(cacheA.get("board:2").get()).isEqualTo("v2");
+    }
+
+    @Test
+    void malformedMessageShouldBeIgnored() {
+        Cache cacheB = nodeB.getCache("tasks");
+        cacheB.put("board:1", "v1");
+
+        nodeB.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "not json".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(cacheB.get("board:1").get()).isEqualTo("v1");
+    }
+
+    private TwoTierCacheManager node() {
+        TwoTierCacheManager manager = new TwoTierCacheManager(remoteCacheManager, redisTemplate, objectMapper,
+                new SimpleMeterRegistry(), CHANNEL, 100, Duration.ofMinutes(1), message -> { });
+        subscribers.add(manager);
+        return manager;
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.taskflow.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoTierCacheTest {
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> nearCache = Caffeine.newBuilder().recordStats().build();
+    private final InterceptingCache remoteCache = new InterceptingCache("tasks");
+    private final List<CacheInvalidationMessage> published = new ArrayList<>();
+    private final List<CacheInvalidationMessage> heard = new ArrayList<>();
+    // Whether board:1 was still cached in L2 at the moment each invalidation was heard
+    private final List<Boolean> cachedWhenHeard = new ArrayList<>();
+    private final TwoTierCache cache = new TwoTierCache("tasks", nearCache, remoteCache, "node-a",
+            published::add, message -> {
+                heard.add(message);
+                cachedWhenHeard.add(remoteCache.get("board:1") != null);
+            }, new SimpleMeterRegistry());
+
+    @Test
+    void remoteHitShouldBeServedFromNearCacheAfterwards() {
+        remoteCache.put("board:1", "v1");
+
+        assertThat(cache.get("board:1").get()).isEqualTo("v1");
+        remoteCache.evict("board:1");
+
+        assertThat(cache.get("board:1").get()).isEqualTo("v1");
+    }
+
+    @Test
+    void loadedValueShouldBeWrittenToBothTiers() {
+        assertThat(cache.get("board:1", () -> "loaded")).isEqualTo("loaded");
+
+        assertThat(remoteCache.get("board:1").get()).isEqualTo("loaded");
+        assertThat(nearCache.getIfPresent("board:1")).isEqualTo("loaded");
+    }
+
+    @Test
+    void evictShouldClearBothTiersAndBeBroadcast() {
+        cache.put("board:1", "v1");
+
+        cache.evict("board:1");
+
+        assertThat(remoteCache.get("board:1")).isNull();
+        assertThat(nearCache.getIfPresent("board:1")).isNull();
+        assertThat(published).containsExactly(CacheInvalidationMessage.key("node-a", "tasks", "board:1"));
+    }
+
+    @Test
+    void evictByPrefixShouldOnlyDropMatchingNearEntries() {
+        cache.put("board:1:page:0", "a");
+        cache.put("board:1:page:1", "b");
+        cache.put("board:2:page:0", "c");
+
+        cache.evictByPrefix("board:1:");
+
+        assertThat(nearCache.asMap()).containsOnlyKeys("board:2:page:0");
+        assertThat(published).containsExactly(CacheInvalidationMessage.prefix("node-a", "tasks", "board:1:"));
+    }
+
+    @Test
+    void remoteInvalidationShouldDropNearEntriesWithoutRebroadcast() {
+        cache.put("board:1", "a");
+        cache.put("board:2:page:0", "b");
+        cache.put("board:3", "c");
+
+        cache.applyRemoteInvalidation(CacheInvalidationMessage.key("node-b", "tasks", "board:1"));
+        assertThat(nearCache.asMap()).containsOnlyKeys("board:2:page:0", "board:3");
+
+        cache.applyRemoteInvalidation(CacheInvalidationMessage.prefix("node-b", "tasks", "board:2:"));
+        assertThat(nearCache.asMap()).containsOnlyKeys("board:3");
+
+        cache.applyRemoteInvalidation(CacheInvalidationMessage.all("node-b", "tasks"));
+        assertThat(nearCache.asMap()).isEmpty();
+        assertThat(published).isEmpty();
+    }
+
+    @Test
+    void invalidationsShouldBeHeardBeforeTheyAreApplied() {
+        cache.put("board:1", "v1");
+        cache.evict("board:1");
+        cache.put("board:1", "v2");
+        cache.evictByPrefix("board:");
+        cache.put("board:1", "v3");
+        cache.clear();
+        cache.applyRemoteInvalidation(CacheInvalidationMessage.key("node-b", "tasks", "board:2"));
+
+        assertThat(heard).containsExactly(
+                CacheInvalidationMessage.key("node-a", "tasks", "board:1"),
+                CacheInvalidationMessage.prefix("node-a", "tasks", "board:"),
+                CacheInvalidationMessage.all("node-a", "tasks"),
+                CacheInvalidationMessage.key("node-b", "tasks", "board:2"));
+        assertThat(cachedWhenHeard).containsExactly(true, true, true, false);
+    }
+
+    @Test
+    void invalidationDuringRemoteReadShouldKeepStaleValueOutOfNearCache() {
+        remoteCache.put("board:1", "stale");
+        // Another node replaces the value and its invalidation arrives while this node is still reading
+        remoteCache.onGet = () -> {
+            remoteCache.onGet = null;
+            remoteCache.put("board:1", "fresh");
+            cache.applyRemoteInvalidation(CacheInvalidationMessage.key("node-b", "tasks", "board:1"));
+        };
+
+        assertThat(cache.get("board:1").get()).isEqualTo("stale");
+
+        assertThat(nearCache.getIfPresent("board:1")).isNull();
+        assertThat(cache.get("board:1").get()).isEqualTo("fresh");
+    }
+
+    @Test
+    void invalidationDuringLoadShouldKeepLoadedValueOutOfNearCache() {
+        String loaded = cache.get("board:1", () -> {
+            cache.applyRemoteInvalidation(CacheInvalidationMessage.prefix("node-b", "tasks", "board:"));
+            return "stale";
+        });
+
+        assertThat(loaded).isEqualTo("stale");
+        assertThat(nearCache.getIfPresent("board:1")).isNull();
+    }
+
+    private static final class InterceptingCache extends ConcurrentMapCache {
+        private volatile Runnable onGet;
+
+        private InterceptingCache(String name) {
+            super(name);
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            ValueWrapper wrapper = super.get(key);
+            Runnable hook = onGet;
+            if (hook != null) hook.run();
+            return wrapper;
+        }
+    }
+}
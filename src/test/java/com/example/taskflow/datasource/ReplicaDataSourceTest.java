@@ -0,0 +1,133 @@
+package com.example.taskflow.datasource;
+
+import com.example.taskflow.model.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ReplicaDataSourceTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection firstReplicaConnection = mock(Connection.class);
+    private final Connection secondReplicaConnection = mock(Connection.class);
+
+    private final DataSource primary = dataSource(primaryConnection);
+    private final DataSource firstReplica = dataSource(firstReplicaConnection);
+    private final DataSource secondReplica = dataSource(secondReplicaConnection);
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readsShouldRotateAcrossReplicas() throws SQLException {
+        ReplicaDataSource router = router(Duration.ZERO);
+
+        assertThat(List.of(router.getConnection(), router.getConnection(), router.getConnection()))
+                .containsExactly(firstReplicaConnection, secondReplicaConnection, firstReplicaConnection);
+    }
+
+    @Test
+    void failingReplicaShouldBeSkippedUntilHealthCheckPasses() throws SQLException {
+        when(firstReplica.getConnection()).thenThrow(new SQLException("connection refused"));
+        ReplicaDataSource router = router(Duration.ZERO);
+
+        assertThat(router.getConnection()).isSameAs(secondReplicaConnection);
+        assertThat(router.getConnection()).isSameAs(secondReplicaConnection);
+        assertThat(registry.get("taskflow.datasource.replicas.healthy").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void readsShouldFallBackToPrimaryWhenNoReplicaIsAvailable() throws SQLException {
+        when(firstReplica.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(secondReplica.getConnection()).thenThrow(new SQLException("connection refused"));
+        ReplicaDataSource router = router(Duration.ZERO);
+
+        assertThat(router.getConnection()).isSameAs(primaryConnection);
+        assertThat(registry.get("taskflow.datasource.reads").tag("target", "primary-fallback").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void recentWriterShouldReadFromPrimary() throws SQLException {
+        RecentWriters recentWriters = new RecentWriters(Duration.ofSeconds(5));
+        ReplicaDataSource router = new ReplicaDataSource(List.of(firstReplica, secondReplica), primary,
+                recentWriters, Duration.ofSeconds(10), registry);
+
+        authenticate(7L);
+        recentWriters.recordWrite();
+        assertThat(router.getConnection()).isSameAs(primaryConnection);
+
+        authenticate(8L);
+        assertThat(router.getConnection()).isSameAs(firstReplicaConnection);
+    }
+
+    @Test
+    void requestedPrimaryReadShouldSkipReplicas() throws SQLException {
+        ReplicaDataSource router = router(Duration.ZERO);
+
+        Connection cacheFill = PrimaryReads.call(() -> connection(router));
+
+        assertThat(cacheFill).isSameAs(primaryConnection);
+        assertThat(router.getConnection()).isSameAs(firstReplicaConnection);
+        assertThat(registry.get("taskflow.datasource.reads").tag("target", "primary-requested").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void cacheMissShouldReachReplicaUnlessTheEntryWasWrittenWithinMaxLag() throws SQLException {
+        ReplicaDataSource router = router(Duration.ZERO);
+        RecentWrites recentWrites = new RecentWrites(Duration.ofSeconds(10));
+        recentWrites.record("task-lists", "1:");
+
+        assertThat(recentWrites.load("task-lists", "1:", () -> connection(router))).isSameAs(primaryConnection);
+        assertThat(recentWrites.load("task-lists", "2:", () -> connection(router))).isSameAs(firstReplicaConnection);
+        assertThat(recentWrites.load("comments", "1:", () -> connection(router))).isSameAs(secondReplicaConnection);
+
+        recentWrites.record("comments", null);
+        assertThat(recentWrites.load("comments", "3:", () -> connection(router))).isSameAs(primaryConnection);
+    }
+
+    private static Connection connection(ReplicaDataSource router) {
+        try {
+            return router.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ReplicaDataSource router(Duration readYourWritesWindow) {
+        return new ReplicaDataSource(List.of(firstReplica, secondReplica), primary,
+                new RecentWriters(readYourWritesWindow), Duration.ofSeconds(10), registry);
+    }
+
+    private static void authenticate(Long userId) {
+        User user = User.builder().id(userId).email("user" + userId + "@example.com").build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    private static DataSource dataSource(Connection connection) {
+        DataSource dataSource = mock(DataSource.class);
+        try {
+            when(dataSource.getConnection()).thenReturn(connection);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return dataSource;
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.taskflow.load;
+
+import com.example.taskflow.AbstractIntegrationTest;
+import com.example.taskflow.model.dto.BoardRequestDto;
+import com.example.taskflow.model.entity.User;
+import com.example.taskflow.repository.UserRepository;
+import com.example.taskflow.service.BoardService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Insert throughput with the two id strategies, on the same JDBC path and in one transaction
+ * per round: one {@code INSERT ... RETURNING id} round trip per row, which is what IDENTITY
+ * forces, against ids reserved from the pooled sequence one block of 50 at a time followed by a
+ * batched insert, which is what Hibernate does for Task. Rates are logged; run with
+ * {@code ./mvnw -Pload-test test -Dtest=BulkInsertThroughputTest}.
+ */
+@Tag("load")
+@Slf4j
+public class BulkInsertThroughputTest extends AbstractIntegrationTest {
+    private static final int ROWS = Integer.getInteger("load.bulk.rows", 500);
+    private static final int ROUNDS = Integer.getInteger("load.bulk.rounds", 5);
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long boardId;
+
+    @BeforeEach
+    void createBoard() {
+        User owner = userRepository.findById(1L).orElseThrow();
+        boardId = boardService.createBoard(new BoardRequestDto("Throughput board"), owner).id();
+    }
+
+    @Test
+    void pooledBatchInsertShouldOutperformRowByRowInserts() {
+        // Warm up connection pool, statement caches and the JIT for both paths
+        insertRowByRow();
+        insertPooledBatch();
+
+        long rowByRowNanos = 0;
+        long pooledNanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            rowByRowNanos += time(this::insertRowByRow);
+            pooledNanos += time(this::insertPooledBatch);
+        }
+
+        double rowByRowRate = ROWS * ROUNDS / (rowByRowNanos / 1e9);
+        double pooledRate = ROWS * ROUNDS / (pooledNanos / 1e9);
+        log.info("Insert throughput for {} tasks x {} rounds: row-by-row {} rows/s, pooled batch {} rows/s ({}x)",
+                ROWS, ROUNDS, Math.round(rowByRowRate), Math.round(pooledRate),
+                String.format("%.1f", pooledRate / rowByRowRate));
+
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE board_id = ?", Integer.class, boardId);
+        assertThat(rows).isEqualTo(ROWS * (ROUNDS + 1) * 2);
+    }
+
+    private void insertRowByRow() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int i = 0; i < ROWS; i++) {
+                jdbcTemplate.queryForObject("""
+                        INSERT INTO tasks (title, status, priority, board_id, is_archived)
+                        VALUES (?, 'TODO', 'MEDIUM', ?, false)
+                        RETURNING id
+                        """, Long.class, "Row " + i, boardId);
+            }
+        });
+    }
+
+    private void insertPooledBatch() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            List<Object[]> rows = new ArrayList<>(ROWS);
+            long nextId = 0;
+            long blockEnd = -1;
+            for (int i = 0; i < ROWS; i++) {
+                if (nextId > blockEnd) {
+                    // Like Hibernate's pooled optimizer: nextval is the top of a block of ALLOCATION_SIZE ids
+                    blockEnd = jdbcTemplate.queryForObject("SELECT nextval('tasks_id_seq')", Long.class);
+                    nextId = blockEnd - ALLOCATION_SIZE + 1;
+                }
+                rows.add(new Object[]{nextId++, "Pooled " + i, boardId});
+            }
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO tasks (id, title, status, priority, board_id, is_archived)
+                    VALUES (?, ?, 'TODO', 'MEDIUM', ?, false)
+                    """, rows);
+        });
+    }
+
+    private static long time(Runnable action) {
+        long start = System.nanoTime();
+        action.run();
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.taskflow.load;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects raw latency samples for one operation and reduces them to percentiles. Samples are
+ * kept in full rather than bucketed: a load run produces at most a few hundred thousand of
+ * them and exact p99.9 values are worth the memory.
+ */
+class LatencyRecorder {
+    private final String name;
+    private final AtomicLong errors = new AtomicLong();
+    private long[] samples = new long[1024];
+    private int count;
+
+    LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    synchronized void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    void recordError() {
+        errors.incrementAndGet();
+    }
+
+    long errors() {
+        return errors.get();
+    }
+
+    synchronized Summary summarize(double elapsedSeconds) {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return new Summary(
+                name,
+                count,
+                errors.get(),
+                elapsedSeconds > 0 ? count / elapsedSeconds : 0,
+                millis(percentile(sorted, 0.50)),
+                millis(percentile(sorted, 0.99)),
+                millis(percentile(sorted, 0.999)),
+                millis(count == 0 ? 0 : sorted[count - 1])
+        );
+    }
+
+    // Nearest-rank percentile
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    record Summary(String operation, long count, long errors, double throughputPerSecond,
+                   double p50Millis, double p99Millis, double p999Millis, double maxMillis) {
+    }
+}
@@ -0,0 +1,377 @@
+package com.example.taskflow.load;
+
+import com.example.taskflow.AbstractIntegrationTest;
+import com.example.taskflow.model.dto.BoardRequestDto;
+import com.example.taskflow.model.dto.BoardResponseDto;
+import com.example.taskflow.model.dto.BulkOperationType;
+import com.example.taskflow.model.dto.BulkTaskOperationDto;
+import com.example.taskflow.model.dto.BulkTaskRequestDto;
+import com.example.taskflow.model.dto.TaskRequestDto;
+import com.example.taskflow.model.dto.TaskResponseDto;
+import com.example.taskflow.model.dto.auth.AuthenticationResponse;
+import com.example.taskflow.model.dto.auth.RegisterRequest;
+import com.example.taskflow.model.entity.TaskPriority;
+import com.example.taskflow.model.entity.TaskStatus;
+import com.example.taskflow.repository.UserRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives a mixed REST and WebSocket workload against a full application node backed by the
+ * Testcontainers Postgres and Redis. Every virtual user owns a board, keeps a STOMP
+ * subscription to it open and loops over listing, paging, updating and assigning its tasks.
+ * <p>
+ * Delivery lag is measured end to end: each update writes a unique marker into the task
+ * description, and the time from sending the request to seeing that marker in a board event
+ * is recorded. Markers overwritten before delivery are merged away by the event coalescer and
+ * counted separately rather than as lost.
+ * <p>
+ * Excluded from the default build; run with {@code ./mvnw -Pload-test test}. Percentiles,
+ * throughput and lag are printed and written to {@code target/load-test-report.json}.
+ * {@link VirtualThreadLoadTest} repeats the workload with virtual threads enabled.
+ */
+@Tag("load")
+public class TaskApiLoadTest extends AbstractIntegrationTest {
+    private static final int USERS = Integer.getInteger("load.users", 8);
+    private static final Duration DURATION = Duration.parse("PT" + System.getProperty("load.duration", "30s"));
+    private static final Duration WARMUP = Duration.parse("PT" + System.getProperty("load.warmup", "5s"));
+    private static final int TASKS_PER_BOARD = Integer.getInteger("load.tasks-per-board", 50);
+
+    private static final String MARKER_PREFIX = "load:";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final Map<String, Long> pendingMarkers = new ConcurrentHashMap<>();
+    private final AtomicLong markerSequence = new AtomicLong();
+    private final List<StompSession> sessions = new ArrayList<>();
+
+    private volatile Map<Operation, LatencyRecorder> recorders;
+    private volatile LatencyRecorder eventLag;
+
+    enum Operation {
+        LIST_TASKS(60),
+        PAGE_TASKS(10),
+        PATCH_TASK(15),
+        PUT_TASK(10),
+        ASSIGN_TASK(5);
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+
+        static Operation pick(int roll) {
+            for (Operation operation : values()) {
+                roll -= operation.weight;
+                if (roll < 0) {
+                    return operation;
+                }
+            }
+            return LIST_TASKS;
+        }
+    }
+
+    record VirtualUser(String token, Long userId, Long boardId, List<Long> taskIds) {
+    }
+
+    @AfterEach
+    void disconnect() {
+        sessions.forEach(StompSession::disconnect);
+        sessions.clear();
+    }
+
+    @Test
+    void mixedRestAndWebSocketWorkload() throws Exception {
+        List<VirtualUser> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            VirtualUser user = createUser(i);
+            subscribe(user);
+            users.add(user);
+        }
+
+        // Warm up the JIT, connection pools and caches, then measure from a clean slate
+        resetRecorders();
+        run(users, WARMUP);
+        resetRecorders();
+        pendingMarkers.clear();
+
+        long start = System.nanoTime();
+        run(users, DURATION);
+        // Give events for the last requests time to arrive before summarizing
+        Thread.sleep(2_000);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9 - 2;
+
+        Map<String, Object> report = report(elapsedSeconds);
+        Path reportFile = Path.of("target", reportName());
+        Files.createDirectories(reportFile.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), report);
+
+        recorders.values().forEach(recorder -> assertThat(recorder.errors()).isZero());
+        assertThat(eventLag.summarize(elapsedSeconds).count()).isPositive();
+    }
+
+    protected String reportName() {
+        return "load-test-report.json";
+    }
+
+    private void run(List<VirtualUser> users, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService executor = Executors.newFixedThreadPool(users.size())) {
+            List<Future<?>> workers = new ArrayList<>();
+            for (VirtualUser user : users) {
+                workers.add(executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        execute(user, Operation.pick(ThreadLocalRandom.current().nextInt(100)));
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+    }
+
+    private void execute(VirtualUser user, Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Long taskId = user.taskIds().get(random.nextInt(user.taskIds().size()));
+
+        HttpRequest request = switch (operation) {
+            case LIST_TASKS -> authorized(user, "/api/tasks?boardId=" + user.boardId()).GET().build();
+            case PAGE_TASKS -> authorized(user, "/api/tasks/page?boardId=" + user.boardId() + "&limit=50").GET().build();
+            case PATCH_TASK -> authorized(user, "/api/tasks/" + taskId)
+                    .method("PATCH", json(new TaskRequestDto(null, newMarker(), null, null, null, null)))
+                    .build();
+            case PUT_TASK -> authorized(user, "/api/tasks/" + taskId)
+                    .PUT(json(new TaskRequestDto("Load task " + taskId, newMarker(),
+                            TaskStatus.values()[random.nextInt(TaskStatus.values().length)],
+                            TaskPriority.values()[random.nextInt(TaskPriority.values().length)],
+                            user.boardId(), LocalDateTime.now().plusDays(3))))
+                    .build();
+            case ASSIGN_TASK -> authorized(user, "/api/tasks/" + taskId + "/assign?userId=" + user.userId())
+                    .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                    .build();
+        };
+
+        LatencyRecorder recorder = recorders.get(operation);
+        long started = System.nanoTime();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            long elapsed = System.nanoTime() - started;
+            if (response.statusCode() / 100 == 2) {
+                recorder.record(elapsed);
+            } else {
+                recorder.recordError();
+            }
+        } catch (IOException e) {
+            recorder.recordError();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String newMarker() {
+        String marker = MARKER_PREFIX + markerSequence.incrementAndGet();
+        pendingMarkers.put(marker, System.nanoTime());
+        return marker;
+    }
+
+    private void onBoardEvent(JsonNode event) {
+        long received = System.nanoTime();
+        JsonNode events = event.path("events");
+        if (events.isArray()) {
+            events.forEach(nested -> recordLag(nested, received));
+        } else {
+            recordLag(event, received);
+        }
+    }
+
+    private void recordLag(JsonNode event, long received) {
+        String description = event.path("task").path("description").asText(null);
+        if (description == null || !description.startsWith(MARKER_PREFIX)) {
+            return;
+        }
+        Long sent = pendingMarkers.remove(description);
+        if (sent != null) {
+            eventLag.record(received - sent);
+        }
+    }
+
+    private Map<String, Object> report(double elapsedSeconds) {
+        List<LatencyRecorder.Summary> operations = recorders.values().stream()
+                .map(recorder -> recorder.summarize(elapsedSeconds))
+                .toList();
+        LatencyRecorder.Summary lag = eventLag.summarize(elapsedSeconds);
+        long total = operations.stream().mapToLong(LatencyRecorder.Summary::count).sum();
+
+        System.out.printf("Load test (%s threads): %d users, %.1fs, %d tasks per board, %.0f requests/s%n",
+                virtualThreads ? "virtual" : "platform", USERS, elapsedSeconds, TASKS_PER_BOARD, total / elapsedSeconds);
+        System.out.printf("%-14s %9s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        operations.forEach(TaskApiLoadTest::print);
+        print(lag);
+        System.out.printf("Updates merged by coalescing before delivery: %d%n", pendingMarkers.size());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("virtualThreads", virtualThreads);
+        report.put("users", USERS);
+        report.put("durationSeconds", elapsedSeconds);
+        report.put("tasksPerBoard", TASKS_PER_BOARD);
+        report.put("requestsPerSecond", total / elapsedSeconds);
+        report.put("operations", operations);
+        report.put("eventDeliveryLag", lag);
+        report.put("coalescedUpdates", pendingMarkers.size());
+        return report;
+    }
+
+    private static void print(LatencyRecorder.Summary summary) {
+        System.out.printf("%-14s %9d %7d %9.1f %9.3f %9.3f %9.3f %9.3f%n",
+                summary.operation(), summary.count(), summary.errors(), summary.throughputPerSecond(),
+                summary.p50Millis(), summary.p99Millis(), summary.p999Millis(), summary.maxMillis());
+    }
+
+    private void resetRecorders() {
+        Map<Operation, LatencyRecorder> fresh = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            fresh.put(operation, new LatencyRecorder(operation.name()));
+        }
+        recorders = fresh;
+        eventLag = new LatencyRecorder("EVENT_LAG");
+    }
+
+    private VirtualUser createUser(int index) throws Exception {
+        String email = "load-" + index + "-" + System.nanoTime() + "@example.com";
+        AuthenticationResponse auth = send(post("/api/auth/register", null,
+                new RegisterRequest("load" + index, email, "loadPassword1")), new TypeReference<>() {
+        });
+        Long userId = userRepository.findByEmail(email).orElseThrow().getId();
+
+        BoardResponseDto board = send(post("/api/boards", auth.token(),
+                new BoardRequestDto("Load board " + index)), new TypeReference<>() {
+        });
+
+        List<BulkTaskOperationDto> operations = new ArrayList<>();
+        for (int i = 0; i < TASKS_PER_BOARD; i++) {
+            operations.add(new BulkTaskOperationDto(BulkOperationType.CREATE, null, "Load task " + i,
+                    null, TaskStatus.TODO, TaskPriority.MEDIUM, LocalDateTime.now().plusDays(3)));
+        }
+        List<TaskResponseDto> tasks = send(post("/api/tasks/bulk", auth.token(),
+                new BulkTaskRequestDto(board.id(), operations)), new TypeReference<>() {
+        });
+
+        return new VirtualUser(auth.token(), userId, board.id(), tasks.stream().map(TaskResponseDto::id).toList());
+    }
+
+    private void subscribe(VirtualUser user) throws Exception {
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+
+        WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+        client.setMessageConverter(converter);
+
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + user.token());
+
+        StompSession session = client.connectAsync("ws://localhost:" + port + "/ws", new WebSocketHttpHeaders(),
+                        connectHeaders, new StompSessionHandlerAdapter() {
+                        })
+                .get(10, TimeUnit.SECONDS);
+
+        session.subscribe("/topic/board/" + user.boardId(), new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return JsonNode.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                onBoardEvent((JsonNode) payload);
+            }
+        });
+        sessions.add(session);
+    }
+
+    private HttpRequest.Builder authorized(VirtualUser user, String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + user.token())
+                .header("Content-Type", "application/json");
+    }
+
+    private HttpRequest post(String path, String token, Object body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .POST(json(body));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private <T> T send(HttpRequest request, TypeReference<T> type) throws Exception {
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(response.statusCode() / 100).as("%s %s", request.method(), request.uri()).isEqualTo(2);
+        return objectMapper.readValue(response.body(), type);
+    }
+}
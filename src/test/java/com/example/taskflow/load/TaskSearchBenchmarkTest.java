@@ -0,0 +1,137 @@
+package com.example.taskflow.load;
+
+import com.example.taskflow.AbstractIntegrationTest;
+import com.example.taskflow.model.dto.TaskSearchPageDto;
+import com.example.taskflow.service.TaskService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Search latency over a seeded data set, one million tasks by default, spread over the boards of
+ * a single owner so every query has to rank a realistic number of matches. The queries cover a
+ * frequent word, a rare word, a phrase, an OR and an exclusion, each for the first page and for
+ * a page further down. Percentiles are printed and written to
+ * {@code target/search-benchmark-report.json}; run with
+ * {@code ./mvnw -Pload-test test -Dtest=TaskSearchBenchmarkTest -Dload.search.tasks=1000000}.
+ */
+@Tag("load")
+public class TaskSearchBenchmarkTest extends AbstractIntegrationTest {
+    private static final int TASKS = Integer.getInteger("load.search.tasks", 1_000_000);
+    private static final int BOARDS = 100;
+    private static final int ITERATIONS = Integer.getInteger("load.search.iterations", 200);
+    private static final Path REPORT = Path.of("target", "search-benchmark-report.json");
+
+    private static final Map<String, String> QUERIES = Map.of(
+            "frequent-word", "deploy",
+            "rare-word", "module417",
+            "phrase", "\"invoice export\"",
+            "or", "login OR payment",
+            "exclusion", "deploy -staging"
+    );
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void searchLatencyOverSeededBoards() throws Exception {
+        long ownerId = seed();
+
+        Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+        for (Map.Entry<String, String> query : QUERIES.entrySet()) {
+            LatencyRecorder firstPage = recorders.computeIfAbsent(query.getKey() + ":first", LatencyRecorder::new);
+            LatencyRecorder thirdPage = recorders.computeIfAbsent(query.getKey() + ":third", LatencyRecorder::new);
+
+            // Warm-up round, not recorded
+            walk(ownerId, query.getValue(), 3, null, null);
+            for (int i = 0; i < ITERATIONS; i++) {
+                walk(ownerId, query.getValue(), 3, firstPage, thirdPage);
+            }
+        }
+
+        List<LatencyRecorder.Summary> summaries = recorders.values().stream()
+                .map(recorder -> recorder.summarize(0))
+                .toList();
+
+        System.out.printf("Search over %d tasks on %d boards, %d iterations per query%n", TASKS, BOARDS, ITERATIONS);
+        System.out.printf("%-22s %9s %9s %9s %9s%n", "query", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        summaries.forEach(summary -> System.out.printf("%-22s %9.3f %9.3f %9.3f %9.3f%n", summary.operation(),
+                summary.p50Millis(), summary.p99Millis(), summary.p999Millis(), summary.maxMillis()));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("tasks", TASKS);
+        report.put("boards", BOARDS);
+        report.put("iterations", ITERATIONS);
+        report.put("queries", QUERIES);
+        report.put("results", summaries);
+        Files.createDirectories(REPORT.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(REPORT.toFile(), report);
+
+        assertThat(summaries).allSatisfy(summary -> assertThat(summary.count()).isEqualTo(ITERATIONS));
+    }
+
+    private void walk(long ownerId, String query, int pages, LatencyRecorder firstPage, LatencyRecorder lastPage) {
+        String cursor = null;
+        for (int page = 1; page <= pages; page++) {
+            long start = System.nanoTime();
+            TaskSearchPageDto result = taskService.searchTasks(ownerId, query, null, cursor, 20);
+            long elapsed = System.nanoTime() - start;
+
+            if (page == 1 && firstPage != null) firstPage.record(elapsed);
+            if (page == pages && lastPage != null) lastPage.record(elapsed);
+
+            assertThat(result.items()).isNotEmpty();
+            cursor = result.nextCursor();
+        }
+    }
+
+    // Generates tasks in SQL so the search_vector trigger runs exactly as it does for application writes
+    private long seed() {
+        long ownerId = jdbcTemplate.queryForObject("""
+                INSERT INTO users (username, email, password, role)
+                VALUES ('search-bench-' || nextval('users_id_seq'), 'search-bench-' || currval('users_id_seq') || '@example.com', 'x', 'USER')
+                RETURNING id
+                """, Long.class);
+        jdbcTemplate.update("""
+                INSERT INTO boards (title, owner_id)
+                SELECT 'Search board ' || b, ? FROM generate_series(1, ?) b
+                """, ownerId, BOARDS);
+        jdbcTemplate.update("""
+                WITH words AS (
+                    SELECT ARRAY['deploy', 'invoice', 'export', 'login', 'payment', 'staging', 'report', 'cache',
+                                 'review', 'migration', 'timeout', 'release', 'backup', 'search', 'upload', 'profile',
+                                 'billing', 'webhook', 'dashboard', 'metrics'] AS w
+                ),
+                owner_boards AS (
+                    SELECT array_agg(id ORDER BY id) AS ids FROM boards WHERE owner_id = ?
+                )
+                INSERT INTO tasks (title, description, status, priority, board_id, is_archived)
+                SELECT w[1 + i % 20] || ' ' || w[1 + (i / 20) % 20] || ' module' || (i % 1000),
+                       'Follow up on ' || w[1 + (i * 7) % 20] || ' ' || w[1 + (i * 13) % 20]
+                           || ' for ' || w[1 + (i * 3) % 20] || ' ticket ' || i,
+                       (ARRAY['TODO', 'IN_PROGRESS', 'DONE'])[1 + i % 3],
+                       (ARRAY['LOW', 'MEDIUM', 'HIGH'])[1 + i % 3],
+                       ids[1 + i % array_length(ids, 1)],
+                       i % 10 = 0
+                FROM generate_series(1, ?) i, words, owner_boards
+                """, ownerId, TASKS);
+        jdbcTemplate.execute("ANALYZE tasks");
+        return ownerId;
+    }
+}
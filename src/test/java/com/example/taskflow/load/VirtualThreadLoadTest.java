@@ -0,0 +1,17 @@
+package com.example.taskflow.load;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * The {@link TaskApiLoadTest} workload with request handling and scheduled jobs, including the
+ * outbox relay, on virtual threads, reported to {@code target/load-test-report-virtual.json} for
+ * comparison. The difference shows once virtual users outnumber Tomcat's 200 platform threads,
+ * e.g. {@code -Dload.users=400}.
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+public class VirtualThreadLoadTest extends TaskApiLoadTest {
+    @Override
+    protected String reportName() {
+        return "load-test-report-virtual.json";
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.taskflow.messaging;
+
+import com.example.taskflow.model.dto.TaskResponseDto;
+import com.example.taskflow.model.dto.event.EventType;
+import com.example.taskflow.model.dto.event.TaskBatchEventDto;
+import com.example.taskflow.model.dto.event.TaskEventDto;
+import com.example.taskflow.model.entity.TaskPriority;
+import com.example.taskflow.model.entity.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BoardEventCoalescerTest {
+    private final BlockingQueue<Object> published = new LinkedBlockingQueue<>();
+    private final EventBroadcaster recorder = (destination, payload) -> published.add(payload);
+
+    private long seq;
+
+    @Test
+    void singleEventShouldBePublishedUnbatched() {
+        BoardEventCoalescer coalescer = new BoardEventCoalescer(recorder, 100);
+
+        coalescer.publish(List.of(event(EventType.TASK_UPDATED, 1L, task(10L, "Only"))));
+
+        assertThat(published).containsExactly(new TaskEventDto(EventType.TASK_UPDATED, 1L, task(10L, "Only"), 1L));
+    }
+
+    @Test
+    void repeatedUpdatesShouldCollapseIntoLatestState() {
+        BoardEventCoalescer coalescer = new BoardEventCoalescer(recorder, 100);
+
+        coalescer.publish(List.of(
+                event(EventType.TASK_CREATED, 1L, task(10L, "Draft")),
+                event(EventType.TASK_UPDATED, 1L, task(10L, "Final")),
+                event(EventType.TASK_UPDATED, 1L, task(11L, "Other v1")),
+                event(EventType.TASK_UPDATED, 1L, task(11L, "Other v2")),
+                event(EventType.TASK_CREATED, 1L, task(12L, "Short-lived")),
+                event(EventType.TASK_DELETED, 1L, task(12L, "Short-lived"))));
+
+        assertThat(published).hasSize(1);
+        Object payload = published.poll();
+        assertThat(payload).isInstanceOf(TaskBatchEventDto.class);
+        TaskBatchEventDto batch = (TaskBatchEventDto) payload;
+        assertThat(batch.type()).isEqualTo(EventType.TASK_BATCH);
+        // The collapsed event keeps the creation but carries the sequence number of the latest change
+        assertThat(batch.events()).containsExactly(
+                new TaskEventDto(EventType.TASK_CREATED, 1L, task(10L, "Final"), 2L),
+                new TaskEventDto(EventType.TASK_UPDATED, 1L, task(11L, "Other v2"), 4L));
+    }
+
+    @Test
+    void largeBatchShouldBeSplitIntoFramesOfMaxSize() {
+        BoardEventCoalescer coalescer = new BoardEventCoalescer(recorder, 3);
+
+        coalescer.publish(List.of(
+                event(EventType.TASK_UPDATED, 1L, task(1L, "Task 1")),
+                event(EventType.TASK_UPDATED, 1L, task(2L, "Task 2")),
+                event(EventType.TASK_UPDATED, 1L, task(3L, "Task 3")),
+                event(EventType.TASK_UPDATED, 1L, task(4L, "Task 4"))));
+
+        assertThat(published).hasSize(2);
+        assertThat(((TaskBatchEventDto) published.poll()).events()).extracting(event -> event.task().id())
+                .containsExactly(1L, 2L, 3L);
+        assertThat(((TaskEventDto) published.poll()).task().id()).isEqualTo(4L);
+    }
+
+    @Test
+    void collapsedTaskShouldMoveToItsLatestEvent() {
+        BoardEventCoalescer coalescer = new BoardEventCoalescer(recorder, 1);
+
+        coalescer.publish(List.of(
+                event(EventType.TASK_UPDATED, 1L, task(1L, "A v1")),
+                event(EventType.TASK_UPDATED, 1L, task(2L, "B")),
+                event(EventType.TASK_UPDATED, 1L, task(1L, "A v2"))));
+
+        // A client resuming after the first frame asks for changes since seq 2 and must still get A
+        assertThat(published).extracting(p -> ((TaskEventDto) p).seq()).containsExactly(2L, 3L);
+        assertThat(published).extracting(p -> ((TaskEventDto) p).task().title()).containsExactly("B", "A v2");
+    }
+
+    @Test
+    void boardsShouldBePublishedSeparately() {
+        BoardEventCoalescer coalescer = new BoardEventCoalescer(recorder, 100);
+
+        coalescer.publish(List.of(
+                event(EventType.TASK_UPDATED, 1L, task(10L, "Board one")),
+                event(EventType.TASK_UPDATED, 2L, task(20L, "Board two"))));
+
+        assertThat(published).extracting(p -> ((TaskEventDto) p).boardId()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void broadcastFailureShouldReachCaller() {
+        BoardEventCoalescer coalescer = new BoardEventCoalescer((destination, payload) -> {
+            throw new IllegalStateException("broker down");
+        }, 100);
+
+        assertThatThrownBy(() -> coalescer.publish(List.of(event(EventType.TASK_UPDATED, 1L, task(10L, "Lost?")))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("broker down");
+    }
+
+    @Test
+    void publishesOfOneBoardShouldNotOverlap() throws Exception {
+        CountDownLatch firstFrameStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstFrame = new CountDownLatch(1);
+        EventBroadcaster slowFirstFrame = (destination, payload) -> {
+            if (firstFrameStarted.getCount() > 0) {
+                firstFrameStarted.countDown();
+                try {
+                    releaseFirstFrame.await(2, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            published.add(payload);
+        };
+        BoardEventCoalescer coalescer = new BoardEventCoalescer(slowFirstFrame, 100);
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(
+                () -> coalescer.publish(List.of(event(EventType.TASK_UPDATED, 1L, task(10L, "First")))));
+        assertThat(firstFrameStarted.await(2, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> second = CompletableFuture.runAsync(
+                () -> coalescer.publish(List.of(event(EventType.TASK_UPDATED, 1L, task(11L, "Second")))));
+        Thread.sleep(100);
+        releaseFirstFrame.countDown();
+        CompletableFuture.allOf(first, second).get(2, TimeUnit.SECONDS);
+
+        assertThat(published).extracting(p -> ((TaskEventDto) p).task().id()).containsExactly(10L, 11L);
+    }
+
+    private TaskEventDto event(EventType type, Long boardId, TaskResponseDto task) {
+        return new TaskEventDto(type, boardId, task, ++seq);
+    }
+
+    private static TaskResponseDto task(Long id, String title) {
+        return new TaskResponseDto(id, title, null, TaskStatus.TODO, TaskPriority.MEDIUM, 1L, null, false,
+                null, null, null, 0);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.taskflow.messaging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BroadcastMetricsTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final BroadcastMetrics metrics = new BroadcastMetrics(registry);
+
+    @Test
+    void destinationsShouldCollapseToTheirType() {
+        metrics.record("/topic/board/1", () -> {
+        });
+        metrics.record("/topic/board/2", () -> {
+        });
+        metrics.record("/topic/user/alina@example.com/notifications", () -> {
+        });
+
+        assertThat(registry.get("taskflow.events.publish").timers()).hasSize(2);
+        assertThat(registry.get("taskflow.events.publish").tags("destination", "board", "outcome", "success")
+                .timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void failedPublishShouldBeRecordedAndRethrown() {
+        assertThatThrownBy(() -> metrics.record("/topic/board/1", () -> {
+            throw new IllegalStateException("broker down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(registry.get("taskflow.events.publish").tags("destination", "board", "outcome", "failure")
+                .timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.taskflow.security;
+
+import com.example.taskflow.repository.BoardRepository;
+import com.example.taskflow.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class OwnershipCacheTest {
+    private final BoardRepository boardRepository = mock(BoardRepository.class);
+    private final OwnershipCache ownershipCache = new OwnershipCache(
+            boardRepository, mock(TaskRepository.class), new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void evictionShouldWaitForCommit() {
+        when(boardRepository.findOwnerIdById(1L)).thenReturn(Optional.of(7L));
+        ownershipCache.ownerOfBoard(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        ownershipCache.evictBoard(1L);
+        // Before commit the row still exists, so the cached owner must still be served
+        assertThat(ownershipCache.ownerOfBoard(1L)).isEqualTo(7L);
+        verify(boardRepository, times(1)).findOwnerIdById(1L);
+
+        when(boardRepository.findOwnerIdById(1L)).thenReturn(Optional.empty());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(ownershipCache.ownerOfBoard(1L)).isNull();
+    }
+
+    @Test
+    void evictionWithoutTransactionShouldBeImmediate() {
+        when(boardRepository.findOwnerIdById(1L)).thenReturn(Optional.of(7L));
+        ownershipCache.ownerOfBoard(1L);
+
+        ownershipCache.evictBoard(1L);
+        ownershipCache.ownerOfBoard(1L);
+
+        verify(boardRepository, times(2)).findOwnerIdById(1L);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.taskflow.security;
+
+import com.example.taskflow.model.Role;
+import com.example.taskflow.model.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PrincipalCacheTest {
+    private static final String SECRET = "fabd4036fe9c776fcc09c8d0b1cfbd508ef660f6674c32236de73443f9387981";
+
+    private final User alina = User.builder()
+            .id(1L).username("alina").email("alina@example.com").password("hash").role(Role.USER).build();
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final UserDetailsService userDetailsService = email -> {
+        lookups.incrementAndGet();
+        if (!email.equals(alina.getEmail())) throw new UsernameNotFoundException("User not found");
+        return alina;
+    };
+
+    private final JwtService jwtService = new JwtService(SECRET, 60_000);
+    private final PrincipalCache principalCache = new PrincipalCache(
+            jwtService, userDetailsService, new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+
+    @Test
+    void repeatedRequestsShouldLoadUserOnce() {
+        String token = jwtService.generateToken(alina);
+
+        assertThat(principalCache.resolve(token)).isSameAs(alina);
+        assertThat(principalCache.resolve(token)).isSameAs(alina);
+        assertThat(lookups).hasValue(1);
+    }
+
+    @Test
+    void tamperedTokenShouldNotAuthenticate() {
+        String token = jwtService.generateToken(alina);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThat(principalCache.resolve(tampered)).isNull();
+        assertThat(principalCache.resolve("not-a-jwt")).isNull();
+        assertThat(lookups).hasValue(0);
+    }
+
+    @Test
+    void expiredTokenShouldNotAuthenticate() {
+        String expired = new JwtService(SECRET, -1_000).generateToken(alina);
+
+        assertThat(principalCache.resolve(expired)).isNull();
+        assertThat(lookups).hasValue(0);
+    }
+
+    @Test
+    void tokenSignedWithAnotherKeyShouldNotAuthenticate() {
+        JwtService otherIssuer = new JwtService(
+                "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef", 60_000);
+
+        assertThat(principalCache.resolve(otherIssuer.generateToken(alina))).isNull();
+    }
+
+    @Test
+    void evictingUserShouldForceReload() {
+        String token = jwtService.generateToken(alina);
+        principalCache.resolve(token);
+
+        principalCache.evictUser(alina.getId());
+        principalCache.resolve(token);
+
+        assertThat(lookups).hasValue(2);
+    }
+
+    @Test
+    void removedUserShouldNotAuthenticate() {
+        User ghost = User.builder().id(2L).email("ghost@example.com").role(Role.USER).build();
+
+        assertThat(principalCache.resolve(jwtService.generateToken(ghost))).isNull();
+    }
+}